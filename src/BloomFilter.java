@@ -0,0 +1,156 @@
+// On my honor:
+// - I have not used source code obtained from another current or
+// former student, or any other unauthorized source, either
+// modified or unmodified.
+//
+// - All source code and documentation used in my program is
+// either my original work, or was derived by me from the
+// source code published in the textbook for this course.
+//
+// - I have not discussed coding details about this project with
+// anyone other than my partner (in the case of a joint
+// submission), instructor, ACM/UPE tutors or the TAs assigned
+// to this course. I understand that I may discuss the concepts
+// of this program with other students, and that another student
+// may help me debug my program so long as neither of us writes
+// anything during the discussion or modifies any computer file
+// during the discussion. I have violated neither the spirit nor
+// letter of this restriction.
+/**
+ * Bloom filter over folded keys
+ * 
+ * Answers whether a folded key might have been added. A no is always
+ * right; a yes is wrong for a small share of keys that were never added,
+ * and that share grows as more keys are added than the filter was made
+ * for. Keys cannot be taken out, so a table makes a new filter from its
+ * records when it resizes.
+ * 
+ * The bits of a key are picked by double hashing the mixed folded key,
+ * so the filter never looks at the key text.
+ *
+ * @author Shruti & Lakshitha
+ * @version 9/19/24
+ */
+public class BloomFilter {
+
+    /**
+     * private fields
+     */
+    private long[] bits; // the filter, 64 bits per word
+    private int hashCount; // bits set for each key
+    private int capacity; // keys the filter was made for
+    private int added; // keys added so far
+
+    /**
+     * Constructor method
+     * 
+     * @param capacity
+     *            is the number of keys the filter is made for
+     * @param bitsPerKey
+     *            is the filter bits for each of those keys, at least 1
+     */
+    public BloomFilter(int capacity, int bitsPerKey) {
+        if (bitsPerKey < 1) {
+            throw new IllegalArgumentException(
+                "a filter needs at least one bit per key");
+        }
+        long size = Math.max(64, (long)Math.max(capacity, 1) * bitsPerKey);
+        this.bits = new long[(int)Math.min((size + 63) / 64,
+            Integer.MAX_VALUE / 64)];
+        this.hashCount = Math.max(1, (int)Math.round(bitsPerKey * Math.log(
+            2)));
+        this.capacity = capacity;
+        this.added = 0;
+    }
+
+
+    /**
+     * Get method for the number of bits
+     * 
+     * @return number of bits in the filter
+     */
+    public long getBitCount() {
+        return bits.length * 64L;
+    }
+
+
+    /**
+     * Get method for the number of bits set per key
+     * 
+     * @return number of bits each key sets
+     */
+    public int getHashCount() {
+        return hashCount;
+    }
+
+
+    /**
+     * Get method for the number of keys the filter was made for
+     * 
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+
+    /**
+     * Get method for the number of keys added
+     * 
+     * @return number of keys added, counting repeats
+     */
+    public int getAdded() {
+        return added;
+    }
+
+
+    /**
+     * Adds a folded key
+     * 
+     * @param code
+     *            is the folded key
+     */
+    public void add(long code) {
+        long mixed = MixHash.mix(code);
+        long step = (mixed >>> 32) | 1;
+        long length = getBitCount();
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(mixed + i * step, length);
+            bits[(int)(bit >>> 6)] |= 1L << bit;
+        }
+        added++;
+    }
+
+
+    /**
+     * Checks if a folded key might have been added
+     * 
+     * @param code
+     *            is the folded key
+     * @return false if the key was surely never added
+     */
+    public boolean mightContain(long code) {
+        long mixed = MixHash.mix(code);
+        long step = (mixed >>> 32) | 1;
+        long length = getBitCount();
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(mixed + i * step, length);
+            if ((bits[(int)(bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /**
+     * Works out the share of keys never added that mightContain says yes
+     * to, given how many keys have been added
+     * 
+     * @return the expected false positive rate, from 0 to 1
+     */
+    public double expectedFalsePositiveRate() {
+        double unset = Math.exp(-(double)hashCount * added / getBitCount());
+        return Math.pow(1 - unset, hashCount);
+    }
+}
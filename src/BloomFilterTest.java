@@ -0,0 +1,74 @@
+// On my honor:
+// - I have not used source code obtained from another current or
+// former student, or any other unauthorized source, either
+// modified or unmodified.
+//
+// - All source code and documentation used in my program is
+// either my original work, or was derived by me from the
+// source code published in the textbook for this course.
+//
+// - I have not discussed coding details about this project with
+// anyone other than my partner (in the case of a joint
+// submission), instructor, ACM/UPE tutors or the TAs assigned
+// to this course. I understand that I may discuss the concepts
+// of this program with other students, and that another student
+// may help me debug my program so long as neither of us writes
+// anything during the discussion or modifies any computer file
+// during the discussion. I have violated neither the spirit nor
+// letter of this restriction.
+import student.TestCase;
+
+/**
+ * Test class for BloomFilter
+ * 
+ * @author Shruti & Lakshitha
+ * @version 9/19/24
+ */
+public class BloomFilterTest extends TestCase {
+
+    /**
+     * Tests the filter is sized from the capacity and bits per key
+     */
+    public void testConstructor() {
+        BloomFilter filter = new BloomFilter(100, 10);
+        assertEquals(1024, filter.getBitCount());
+        assertEquals(7, filter.getHashCount());
+        assertEquals(100, filter.getCapacity());
+        assertEquals(0, filter.getAdded());
+        assertEquals(64, new BloomFilter(0, 1).getBitCount());
+        assertEquals(0.0, filter.expectedFalsePositiveRate(), 0.0);
+
+        Exception thrown = null;
+        try {
+            new BloomFilter(100, 0);
+        }
+        catch (IllegalArgumentException e) {
+            thrown = e;
+        }
+        assertNotNull(thrown);
+    }
+
+
+    /**
+     * Tests every added key is found and few others are
+     */
+    public void testMightContain() {
+        BloomFilter filter = new BloomFilter(1000, 10);
+        for (int i = 0; i < 1000; i++) {
+            filter.add(Hash.sfold("key" + i));
+        }
+        assertEquals(1000, filter.getAdded());
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(filter.mightContain(Hash.sfold("key" + i)));
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (filter.mightContain(Hash.sfold("missing" + i))) {
+                falsePositives++;
+            }
+        }
+        double expected = filter.expectedFalsePositiveRate();
+        assertEquals(0.008, expected, 0.002);
+        assertTrue(falsePositives < 10000 * expected * 3);
+    }
+}
@@ -0,0 +1,538 @@
+// On my honor:
+// - I have not used source code obtained from another current or
+// former student, or any other unauthorized source, either
+// modified or unmodified.
+//
+// - All source code and documentation used in my program is
+// either my original work, or was derived by me from the
+// source code published in the textbook for this course.
+//
+// - I have not discussed coding details about this project with
+// anyone other than my partner (in the case of a joint
+// submission), instructor, ACM/UPE tutors or the TAs assigned
+// to this course. I understand that I may discuss the concepts
+// of this program with other students, and that another student
+// may help me debug my program so long as neither of us writes
+// anything during the discussion or modifies any computer file
+// during the discussion. I have violated neither the spirit nor
+// letter of this restriction.
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Hash table stored as parallel arrays
+ * 
+ * Holds the same records as Hash, in the same slots, but keeps the key,
+ * the node index and the folded key of each slot in parallel arrays instead
+ * of one Record object per slot. A deleted slot has no key and the DELETED
+ * node index. Records handed out by getRecord are views made on the spot,
+ * so changing them does not change the table.
+ * 
+ * The key bytes themselves live off the heap in a KeyArena, which the
+ * artist and song tables can share, so a name that is both an artist and
+ * a song is stored once. A slot only keeps where its key starts in the
+ * arena and how long it is, and keys are compared there in place.
+ * 
+ * Uses the probing, load factor, growth factor, maximum capacity and
+ * minimum load factor of its options. Incremental resizing is not offered.
+ *
+ * @author Shruti & Lakshitha
+ * @version 9/19/24
+ */
+public class CompactHash implements RecordTable {
+
+    /**
+     * Node index that marks a deleted slot
+     */
+    public static final int DELETED = -1;
+
+    /**
+     * Arena offset of a slot without a key
+     */
+    private static final int NO_KEY = -1;
+
+    /**
+     * private fields
+     */
+    private KeyArena arena; // key bytes of every slot
+    private int[] offsets; // where the key of each slot starts, or NO_KEY
+    private int[] lengths; // number of key bytes in each slot
+    private int[] nodeIds; // node index in each slot
+    private long[] hashes; // folded key in each slot
+    private int numberOfRecords; // number of records
+    private RecordType type; // artist or song, for views and messages
+    private HashOptions options; // how the table grows
+    private int minLength; // table never shrinks below its first length
+
+    /**
+     * Constructor method
+     * 
+     * @param size
+     *            is the initial size of the hash table
+     * @param type
+     *            is the type of every record in the table
+     * @param options
+     *            is how the table grows
+     */
+    public CompactHash(int size, RecordType type, HashOptions options) {
+        this(size, type, options, new KeyArena(1024));
+    }
+
+
+    /**
+     * Constructor method for a table that keeps its keys in a given arena
+     * 
+     * @param size
+     *            is the initial size of the hash table
+     * @param type
+     *            is the type of every record in the table
+     * @param options
+     *            is how the table grows
+     * @param arena
+     *            is where the key bytes go, possibly shared with other tables
+     */
+    public CompactHash(
+        int size,
+        RecordType type,
+        HashOptions options,
+        KeyArena arena) {
+        if (options.isTriangularProbing()) {
+            size = Math.max(1, Integer.highestOneBit(size - 1) << 1);
+        }
+        allocate(size);
+        this.arena = arena;
+        this.numberOfRecords = 0;
+        this.type = type;
+        this.options = options;
+        this.minLength = size;
+    }
+
+
+    /**
+     * Get method for the number of records in table
+     * 
+     * @return number of records
+     */
+    public int getNumberOfRecords() {
+        return numberOfRecords;
+    }
+
+
+    /**
+     * Makes an array of the keys, one per slot
+     * 
+     * @return the keys, null for slots without one
+     */
+    public String[] getKeys() {
+        String[] keys = new String[offsets.length];
+        for (int i = 0; i < offsets.length; i++) {
+            if (offsets[i] != NO_KEY) {
+                keys[i] = keyAt(i);
+            }
+        }
+        return keys;
+    }
+
+
+    /**
+     * Get method for the arena that holds the key bytes
+     * 
+     * @return the arena
+     */
+    public KeyArena getArena() {
+        return arena;
+    }
+
+
+    /**
+     * Makes new, empty arrays of the given length
+     * 
+     * @param length
+     *            is the table length
+     */
+    private void allocate(int length) {
+        offsets = new int[length];
+        Arrays.fill(offsets, NO_KEY);
+        lengths = new int[length];
+        nodeIds = new int[length];
+        hashes = new long[length];
+    }
+
+
+    /**
+     * Copies the key of a slot out of the arena
+     * 
+     * @param pos
+     *            is a slot that holds a record
+     * @return the key
+     */
+    private String keyAt(int pos) {
+        return arena.getKey(offsets[pos], lengths[pos]);
+    }
+
+
+    /**
+     * Checks if a slot holds the given key
+     * 
+     * @param pos
+     *            is the slot
+     * @param code
+     *            is the folded key
+     * @param key
+     *            is the key, compared with the arena bytes in place
+     * @return true if the slot holds the key
+     */
+    private boolean holds(int pos, long code, String key) {
+        return offsets[pos] != NO_KEY && hashes[pos] == code && arena.matches(
+            offsets[pos], lengths[pos], key);
+    }
+
+
+    /**
+     * Get method for the node index of a slot
+     * 
+     * @param pos
+     *            is the slot
+     * @return the node index, or DELETED
+     */
+    public int getNodeId(int pos) {
+        return nodeIds[pos];
+    }
+
+
+    /**
+     * Checks if a slot was never used since the last resize
+     * 
+     * @param pos
+     *            is the slot
+     * @return true if the slot is empty
+     */
+    private boolean isEmpty(int pos) {
+        return offsets[pos] == NO_KEY && nodeIds[pos] != DELETED;
+    }
+
+
+    /**
+     * Makes a record view of a slot
+     * 
+     * @param pos
+     *            is a slot that holds a record
+     * @return a new record with the key and node index of the slot
+     */
+    private Record view(int pos) {
+        return new Record(keyAt(pos), nodeIds[pos], type);
+    }
+
+
+    /**
+     * Retrieves a record view from hash based on its key
+     * 
+     * @param key
+     *            is the key of the record
+     * @return the record, or null if not found
+     */
+    public Record getRecord(String key) {
+        int pos = find(key);
+        if (pos == -1) { // record not found
+            return null;
+        }
+        return view(pos);
+    }
+
+
+    /**
+     * Finds record in hash table based on key
+     * 
+     * @param key
+     *            is the record key
+     * @return position or -1 if not found
+     */
+    public int find(String key) {
+        long code = options.getHashFunction().hash(key);
+        int home = Hash.home(code, offsets.length, options);
+        int pos = home;
+
+        for (int i = 0; !isEmpty(pos) && i < offsets.length; i++) {
+            if (holds(pos, code, key)) {
+                return pos;
+            }
+            pos = Hash.next(home, i, offsets.length, options);
+        }
+        return -1; // Key not found
+    }
+
+
+    /**
+     * Inserts a record into the hash
+     * 
+     * @param record
+     *            is the record to be inserted
+     */
+    public void insert(Record record) {
+        findOrInsert(record.getKey(), key -> record);
+    }
+
+
+    /**
+     * Returns the record stored under key, inserting the one made by factory
+     * if the key is not there yet. A new record goes in the first deleted or
+     * empty slot of its probe sequence, the same slot Hash would use.
+     * 
+     * @param key
+     *            is the record key
+     * @param factory
+     *            makes the record to insert when the key is missing
+     * @return a view of the existing record or the newly inserted record
+     */
+    public Record findOrInsert(String key, Function<String, Record> factory) {
+        long code = options.getHashFunction().hash(key);
+        int home = Hash.home(code, offsets.length, options);
+        int pos = home;
+        int free = -1; // first deleted slot seen on the way
+
+        for (int i = 0; !isEmpty(pos) && i < offsets.length; i++) {
+            if (offsets[pos] == NO_KEY) {
+                if (free == -1) {
+                    free = pos;
+                }
+            }
+            else if (holds(pos, code, key)) {
+                return view(pos);
+            }
+            pos = Hash.next(home, i, offsets.length, options);
+        }
+        if (free == -1 && isEmpty(pos)) {
+            free = pos;
+        }
+
+        Record record = factory.apply(key);
+        if (needsGrowth()) {
+            rehash();
+            Hash.announceGrowth(type);
+            free = -1;
+        }
+        while (free == -1) {
+            free = freeSlot(code);
+            if (free == -1) { // probing never reaches a free slot
+                if (offsets.length >= Hash.maxLength(options)) {
+                    throw new IllegalStateException(
+                        "hash table is full at its maximum capacity");
+                }
+                rehash();
+                Hash.announceGrowth(type);
+            }
+        }
+        byte[] bytes = KeyArena.encode(key); // only a new key is encoded
+        offsets[free] = arena.add(bytes);
+        lengths[free] = bytes.length;
+        nodeIds[free] = record.getIndex();
+        hashes[free] = code;
+        numberOfRecords++;
+        return record;
+    }
+
+
+    /**
+     * Grows the table once, to the length that inserting records one at a
+     * time would reach, so that it holds count records without growing
+     * again. Prints nothing and never shrinks the table.
+     * 
+     * @param count
+     *            is the number of records the table should hold
+     */
+    public void reserve(int count) {
+        int length = Hash.reservedLength(offsets.length, count, options);
+        if (length > offsets.length) {
+            rehash(length);
+        }
+    }
+
+
+    /**
+     * Checks if one more record would put the table over its load factor
+     * 
+     * @return true if the table should grow before the next insert
+     */
+    private boolean needsGrowth() {
+        return numberOfRecords + 1 > offsets.length * options.getLoadFactor()
+            && offsets.length < Hash.maxLength(options);
+    }
+
+
+    /**
+     * Finds the first deleted or empty slot of a probe sequence
+     * 
+     * @param code
+     *            is the folded key
+     * @return the slot, or -1 if probing never reaches one
+     */
+    private int freeSlot(long code) {
+        int home = Hash.home(code, offsets.length, options);
+        int pos = home;
+        for (int i = 0; offsets[pos] != NO_KEY; i++) {
+            if (i == offsets.length) {
+                return -1;
+            }
+            pos = Hash.next(home, i, offsets.length, options);
+        }
+        return pos;
+    }
+
+
+    /**
+     * Grows the hash table and adds all records from old hash to new one,
+     * trying bigger lengths if some record cannot reach a free slot
+     */
+    private void rehash() {
+        rehash(Hash.grownLength(offsets.length, options));
+    }
+
+
+    /**
+     * Moves all records into arrays of the given length, or the next bigger
+     * one some record cannot reach a free slot in
+     * 
+     * @param length
+     *            is the length to try first
+     */
+    private void rehash(int length) {
+        while (!resize(length)) {
+            if (length >= Hash.maxLength(options)) {
+                throw new IllegalStateException(
+                    "hash table is full at its maximum capacity");
+            }
+            length = Hash.grownLength(length, options);
+        }
+    }
+
+
+    /**
+     * Makes new arrays of the given length and adds all records from the old
+     * ones. Keeps the old arrays if some record cannot reach a free slot.
+     * 
+     * @param length
+     *            is the new table length
+     * @return true if the table now has the new length
+     */
+    private boolean resize(int length) {
+        int[] oldOffsets = offsets;
+        int[] oldLengths = lengths;
+        int[] oldIds = nodeIds;
+        long[] oldHashes = hashes;
+        allocate(length);
+
+        for (int j = 0; j < oldOffsets.length; j++) {
+            if (oldOffsets[j] != NO_KEY) {
+                int pos = freeSlot(oldHashes[j]);
+                if (pos == -1) {
+                    offsets = oldOffsets;
+                    lengths = oldLengths;
+                    nodeIds = oldIds;
+                    hashes = oldHashes;
+                    return false;
+                }
+                offsets[pos] = oldOffsets[j];
+                lengths[pos] = oldLengths[j];
+                nodeIds[pos] = oldIds[j];
+                hashes[pos] = oldHashes[j];
+            }
+        }
+        return true;
+    }
+
+
+    /**
+     * Removes record from hash, leaving a deleted slot
+     * 
+     * @param key
+     *            from record
+     */
+    public void remove(String key) {
+        int pos = find(key);
+        if (pos == -1) {
+            return;
+        }
+        offsets[pos] = NO_KEY;
+        nodeIds[pos] = DELETED;
+        numberOfRecords--;
+
+        if (numberOfRecords < offsets.length * options.getMinLoadFactor()
+            && offsets.length > minLength) {
+            int length = Hash.shrunkLength(offsets.length, minLength, options);
+            if (length < offsets.length && numberOfRecords <= length * options
+                .getLoadFactor() / 2) {
+                resize(length);
+            }
+        }
+    }
+
+
+    /**
+     * Calls action once for every record in the table, with a view of it
+     * 
+     * @param action
+     *            is what to do with each record
+     */
+    public void forEachRecord(Consumer<Record> action) {
+        for (int i = 0; i < offsets.length; i++) {
+            if (offsets[i] != NO_KEY) {
+                action.accept(view(i));
+            }
+        }
+    }
+
+
+    /**
+     * Gives every record a new node index, after the graph was compacted
+     * 
+     * @param map
+     *            is the new index for each old index
+     */
+    public void renumberNodes(int[] map) {
+        for (int i = 0; i < offsets.length; i++) {
+            if (offsets[i] != NO_KEY) {
+                nodeIds[i] = map[nodeIds[i]];
+            }
+        }
+    }
+
+
+    /**
+     * Prints hash table contents
+     */
+    public void print() {
+        for (int i = 0; i < offsets.length; i++) {
+            if (offsets[i] != NO_KEY) {
+                System.out.println(i + ": |" + keyAt(i).trim() + "|");
+            }
+            else if (nodeIds[i] == DELETED) {
+                System.out.println(i + ": TOMBSTONE");
+            }
+        }
+    }
+
+
+    /**
+     * Counts the slots find looks at for a key
+     * 
+     * @param key
+     *            is the record key
+     * @return number of slots looked at
+     */
+    public int probes(String key) {
+        long code = options.getHashFunction().hash(key);
+        int home = Hash.home(code, offsets.length, options);
+        int pos = home;
+        int count = 1;
+
+        for (int i = 0; !isEmpty(pos) && i < offsets.length; i++) {
+            if (holds(pos, code, key)) {
+                return count;
+            }
+            pos = Hash.next(home, i, offsets.length, options);
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,219 @@
+// On my honor:
+// - I have not used source code obtained from another current or
+// former student, or any other unauthorized source, either
+// modified or unmodified.
+//
+// - All source code and documentation used in my program is
+// either my original work, or was derived by me from the
+// source code published in the textbook for this course.
+//
+// - I have not discussed coding details about this project with
+// anyone other than my partner (in the case of a joint
+// submission), instructor, ACM/UPE tutors or the TAs assigned
+// to this course. I understand that I may discuss the concepts
+// of this program with other students, and that another student
+// may help me debug my program so long as neither of us writes
+// anything during the discussion or modifies any computer file
+// during the discussion. I have violated neither the spirit nor
+// letter of this restriction.
+import student.TestCase;
+import java.util.Random;
+
+/**
+ * Test class for methods in CompactHash class
+ * 
+ * @author Shruti & Lakshitha
+ * @version 9/19/24
+ */
+public class CompactHashTest extends TestCase {
+    private CompactHash hash;
+
+    /**
+     * Sets up the tests that follow
+     */
+    public void setUp() {
+        hash = new CompactHash(10, RecordType.ARTIST, new HashOptions());
+    }
+
+
+    /**
+     * Tests insert, find and getRecord views
+     */
+    public void testInsertFind() {
+        hash.insert(new Record("hokies", 7, RecordType.ARTIST));
+        assertEquals(Hash.h("hokies", 10), hash.find("hokies"));
+        Record view = hash.getRecord("hokies");
+        assertEquals("hokies", view.getKey());
+        assertEquals(7, view.getIndex());
+        assertEquals(RecordType.ARTIST, view.getType());
+        assertEquals(7, hash.getNodeId(hash.find("hokies")));
+        assertNull(hash.getRecord("notThere"));
+
+        view.setIndex(8); // views do not change the table
+        assertEquals(7, hash.getRecord("hokies").getIndex());
+
+        hash.insert(new Record("hokies", 9, RecordType.ARTIST));
+        assertEquals(1, hash.getNumberOfRecords());
+    }
+
+
+    /**
+     * Tests removing leaves a deleted slot that is printed as a tombstone
+     * and reused
+     */
+    public void testRemove() {
+        hash.insert(new Record("hokies", 1, RecordType.ARTIST));
+        int pos = hash.find("hokies");
+        hash.remove("hokies");
+        hash.remove("hokies");
+        assertEquals(0, hash.getNumberOfRecords());
+        assertEquals(CompactHash.DELETED, hash.getNodeId(pos));
+        assertNull(hash.getKeys()[pos]);
+        systemOut().clearHistory();
+        hash.print();
+        assertEquals(pos + ": TOMBSTONE", systemOut().getHistory().trim());
+
+        Record record = hash.findOrInsert("hokies", k -> new Record(k, 2,
+            RecordType.ARTIST));
+        assertEquals(2, record.getIndex());
+        assertEquals(pos, hash.find("hokies"));
+    }
+
+
+    /**
+     * Tests the slots and printout match Hash through inserts, removes and
+     * growth
+     */
+    public void testMatchesHash() {
+        HashOptions options = new HashOptions();
+        options.setMinLoadFactor(0.1);
+        Hash records = new Hash(10, options);
+        hash = new CompactHash(10, RecordType.SONG, options);
+        Random random = new Random(5);
+        for (int i = 0; i < 2000; i++) {
+            String key = "song" + random.nextInt(300);
+            if (random.nextInt(3) == 0) {
+                records.remove(key);
+                hash.remove(key);
+            }
+            else {
+                Record record = new Record(key, i, RecordType.SONG);
+                records.insert(record);
+                hash.insert(record);
+            }
+            assertEquals(records.getNumberOfRecords(), hash
+                .getNumberOfRecords());
+        }
+        systemOut().clearHistory();
+        records.print();
+        String expected = systemOut().getHistory();
+        systemOut().clearHistory();
+        hash.print();
+        assertEquals(expected, systemOut().getHistory());
+    }
+
+
+    /**
+     * Tests growing prints the same message as Hash
+     */
+    public void testGrowthMessage() {
+        systemOut().clearHistory();
+        for (int i = 0; i < 6; i++) {
+            hash.findOrInsert("artist" + i, k -> new Record(k, 0,
+                RecordType.ARTIST));
+        }
+        assertEquals("Artist hash table size doubled.", systemOut()
+            .getHistory().trim());
+        assertEquals(20, hash.getKeys().length);
+    }
+
+
+    /**
+     * Tests forEachRecord and renumberNodes
+     */
+    public void testRenumber() {
+        for (int i = 0; i < 4; i++) {
+            hash.insert(new Record("key" + i, i * 2, RecordType.ARTIST));
+        }
+        int[] map = { 0, -1, 1, -1, 2, -1, 3 };
+        hash.renumberNodes(map);
+        int[] total = new int[1];
+        hash.forEachRecord(r -> total[0] += r.getIndex());
+        assertEquals(6, total[0]);
+        assertEquals(3, hash.getRecord("key3").getIndex());
+    }
+
+
+    /**
+     * Tests probes and triangular probing
+     */
+    public void testTriangular() {
+        HashOptions options = new HashOptions();
+        options.setTriangularProbing(true);
+        hash = new CompactHash(10, RecordType.SONG, options);
+        assertEquals(16, hash.getKeys().length);
+        for (int i = 0; i < 8; i++) {
+            String key = String.valueOf((char)('A' + 16 * i));
+            hash.insert(new Record(key, i, RecordType.SONG));
+        }
+        assertEquals(16, hash.getKeys().length);
+        assertEquals(1, hash.probes("A"));
+        assertEquals(8, hash.probes(String.valueOf((char)('A' + 16 * 7))));
+    }
+
+
+    /**
+     * Tests two tables sharing one arena, with keys that are not ASCII
+     */
+    public void testSharedArena() {
+        KeyArena arena = new KeyArena(4);
+        CompactHash artists = new CompactHash(10, RecordType.ARTIST,
+            new HashOptions(), arena);
+        CompactHash songs = new CompactHash(10, RecordType.SONG,
+            new HashOptions(), arena);
+        artists.insert(new Record("Beyonc\u00e9", 0, RecordType.ARTIST));
+        songs.insert(new Record("Caf\u00e9 Blue", 1, RecordType.SONG));
+        songs.insert(new Record("Hokies", 2, RecordType.SONG));
+        assertSame(arena, artists.getArena());
+        assertSame(arena, songs.getArena());
+        assertEquals(8 + 10 + 6, arena.getSize());
+
+        assertEquals("Beyonc\u00e9", artists.getRecord("Beyonc\u00e9")
+            .getKey());
+        assertNull(artists.getRecord("Beyonce"));
+        assertNull(artists.getRecord("Hokies"));
+        assertEquals(2, songs.getRecord("Hokies").getIndex());
+
+        artists.insert(new Record("Hokies", 3, RecordType.ARTIST));
+        assertEquals(24, arena.getSize());
+        assertEquals(1, arena.getShared());
+        assertEquals(3, artists.getRecord("Hokies").getIndex());
+
+        songs.remove("Caf\u00e9 Blue");
+        assertNull(songs.getRecord("Caf\u00e9 Blue"));
+        songs.insert(new Record("Caf\u00e9 Blue", 4, RecordType.SONG));
+        assertEquals(24, arena.getSize());
+        assertEquals(2, arena.getShared());
+        assertEquals(16, arena.getSaved());
+        assertEquals(2, songs.getRecord("Hokies").getIndex());
+    }
+
+
+    /**
+     * Tests reserve makes room for the records in one step
+     */
+    public void testReserve() {
+        hash = new CompactHash(10, RecordType.SONG, new HashOptions());
+        hash.reserve(100);
+        int length = hash.getKeys().length;
+        assertTrue(length > 10);
+        systemOut().clearHistory();
+        for (int i = 0; i < 100; i++) {
+            hash.insert(new Record("song" + i, i, RecordType.SONG));
+        }
+        assertEquals("", systemOut().getHistory());
+        assertEquals(length, hash.getKeys().length);
+        assertEquals(100, hash.getNumberOfRecords());
+        assertEquals(99, hash.getRecord("song99").getIndex());
+    }
+}
@@ -0,0 +1,524 @@
+// On my honor:
+// - I have not used source code obtained from another current or
+// former student, or any other unauthorized source, either
+// modified or unmodified.
+//
+// - All source code and documentation used in my program is
+// either my original work, or was derived by me from the
+// source code published in the textbook for this course.
+//
+// - I have not discussed coding details about this project with
+// anyone other than my partner (in the case of a joint
+// submission), instructor, ACM/UPE tutors or the TAs assigned
+// to this course. I understand that I may discuss the concepts
+// of this program with other students, and that another student
+// may help me debug my program so long as neither of us writes
+// anything during the discussion or modifies any computer file
+// during the discussion. I have violated neither the spirit nor
+// letter of this restriction.
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Hash table that many threads can use at once
+ * 
+ * The slots are split into stripes, each an open addressing table with
+ * its own lock. A key always lives in the stripe its mixed hash picks, and
+ * within the stripe it is probed like in Hash, using the probing, hash
+ * function, load factor, growth factor, maximum capacity and minimum load
+ * factor of the options. Inserts and removes lock only their stripe, so
+ * writers to different stripes do not wait for each other.
+ * 
+ * Lookups take no lock. A stripe that grows is copied into a new one that
+ * is swapped in when it is full, so readers keep working on the old one in
+ * the meantime, and the other stripes are not held up at all.
+ * 
+ * A position is the slot within its stripe times the number of stripes,
+ * plus the stripe. Counts and printouts taken while other threads write
+ * are only a snapshot. The records themselves are not locked, so
+ * renumberNodes should not run with other writers.
+ *
+ * @author Shruti & Lakshitha
+ * @version 9/19/24
+ */
+public class ConcurrentHash implements RecordTable {
+
+    /**
+     * Default number of stripes
+     */
+    public static final int DEFAULT_STRIPES = 16;
+
+    /**
+     * private fields
+     */
+    private final AtomicReferenceArray<StripeTable> stripes; // current ones
+    private final Object[] locks; // one per stripe, held by its writers
+    private final Record tombstone; // represents deleted record
+    private final HashOptions options; // how the stripes grow
+    private final int minLength; // stripes never shrink below this
+
+    /**
+     * Constructor method
+     * 
+     * @param size
+     *            is the initial number of slots over all stripes
+     * @param options
+     *            is how the stripes probe and grow
+     */
+    public ConcurrentHash(int size, HashOptions options) {
+        this(size, DEFAULT_STRIPES, options);
+    }
+
+
+    /**
+     * Constructor method with a number of stripes
+     * 
+     * @param size
+     *            is the initial number of slots over all stripes
+     * @param stripeCount
+     *            is the number of stripes, at least 1
+     * @param options
+     *            is how the stripes probe and grow
+     */
+    public ConcurrentHash(int size, int stripeCount, HashOptions options) {
+        if (stripeCount < 1) {
+            throw new IllegalArgumentException(
+                "there must be at least one stripe");
+        }
+        int length = Math.max(1, size / stripeCount);
+        if (options.isTriangularProbing()) {
+            length = Math.max(1, Integer.highestOneBit(length - 1) << 1);
+        }
+        this.stripes = new AtomicReferenceArray<>(stripeCount);
+        this.locks = new Object[stripeCount];
+        for (int s = 0; s < stripeCount; s++) {
+            stripes.set(s, new StripeTable(length));
+            locks[s] = new Object();
+        }
+        this.tombstone = new Record(null, -1, null);
+        this.options = options;
+        this.minLength = length;
+    }
+
+
+    /**
+     * Get method for the number of stripes
+     * 
+     * @return number of stripes
+     */
+    public int getStripeCount() {
+        return stripes.length();
+    }
+
+
+    /**
+     * Get method for the number of slots in a stripe
+     * 
+     * @param s
+     *            is the stripe
+     * @return the current length of the stripe
+     */
+    public int getStripeLength(int s) {
+        return stripes.get(s).length();
+    }
+
+
+    /**
+     * Get method for the number of records in table
+     * 
+     * @return number of records, summed over the stripes
+     */
+    public int getNumberOfRecords() {
+        int count = 0;
+        for (int s = 0; s < stripes.length(); s++) {
+            count += stripes.get(s).getCount();
+        }
+        return count;
+    }
+
+
+    /**
+     * Picks the stripe of a folded key. The key is mixed first so that
+     * sfold, whose low bits also pick the slot, still spreads keys over
+     * the stripes.
+     * 
+     * @param code
+     *            is the folded key
+     * @return the stripe
+     */
+    private int stripeOf(long code) {
+        return (int)Math.floorMod(MixHash.mix(code), (long)stripes.length());
+    }
+
+
+    /**
+     * Finds the slot of a key in one stripe
+     * 
+     * @param table
+     *            is the stripe
+     * @param key
+     *            is the record key
+     * @param code
+     *            is the folded key
+     * @return the slot, or -1 if not found
+     */
+    private int locate(StripeTable table, String key, long code) {
+        int length = table.length();
+        int home = Hash.home(code, length, options);
+        int pos = home;
+        for (int i = 0; i < length; i++) {
+            Record record = table.get(pos);
+            if (record == null) {
+                return -1;
+            }
+            if (record != tombstone && table.getHash(pos) == code && key
+                .equals(record.getKey())) {
+                return pos;
+            }
+            pos = Hash.next(home, i, length, options);
+        }
+        return -1; // Key not found
+    }
+
+
+    /**
+     * Finds the record of a key in one stripe. Each slot is read once, and
+     * the record read is the one checked and returned, so a remove or insert
+     * racing with the lookup cannot swap in a tombstone or another key.
+     * 
+     * @param table
+     *            is the stripe
+     * @param key
+     *            is the record key
+     * @param code
+     *            is the folded key
+     * @return the record, or null if not found
+     */
+    private Record lookup(StripeTable table, String key, long code) {
+        int length = table.length();
+        int home = Hash.home(code, length, options);
+        int pos = home;
+        for (int i = 0; i < length; i++) {
+            Record record = table.get(pos);
+            if (record == null) {
+                return null;
+            }
+            if (record != tombstone && table.getHash(pos) == code && key
+                .equals(record.getKey())) {
+                return record;
+            }
+            pos = Hash.next(home, i, length, options);
+        }
+        return null; // Key not found
+    }
+
+
+    /**
+     * Finds the first empty or deleted slot of a probe sequence in a stripe
+     * 
+     * @param table
+     *            is the stripe
+     * @param code
+     *            is the folded key
+     * @return the slot, or -1 if probing never reaches one
+     */
+    private int freeSlot(StripeTable table, long code) {
+        int length = table.length();
+        int home = Hash.home(code, length, options);
+        int pos = home;
+        for (int i = 0; table.get(pos) != null && table.get(
+            pos) != tombstone; i++) {
+            if (i == length) {
+                return -1;
+            }
+            pos = Hash.next(home, i, length, options);
+        }
+        return pos;
+    }
+
+
+    /**
+     * Retrieves a record from hash based on its key, without locking
+     * 
+     * @param key
+     *            is the key of the record
+     * @return the record, or null if not found
+     */
+    public Record getRecord(String key) {
+        long code = options.getHashFunction().hash(key);
+        return lookup(stripes.get(stripeOf(code)), key, code);
+    }
+
+
+    /**
+     * Finds record in hash table based on key, without locking
+     * 
+     * @param key
+     *            is the record key
+     * @return position or -1 if not found
+     */
+    public int find(String key) {
+        long code = options.getHashFunction().hash(key);
+        int s = stripeOf(code);
+        int pos = locate(stripes.get(s), key, code);
+        return pos == -1 ? -1 : pos * stripes.length() + s;
+    }
+
+
+    /**
+     * Inserts a record into the hash
+     * 
+     * @param record
+     *            is the record to be inserted
+     */
+    public void insert(Record record) {
+        findOrInsert(record.getKey(), key -> record);
+    }
+
+
+    /**
+     * Returns the record stored under key, inserting the one made by factory
+     * if the key is not there yet. Looks without locking first, and only
+     * locks the stripe of the key to insert. Of several threads inserting
+     * the same key, one calls its factory and the others get that record.
+     * 
+     * @param key
+     *            is the record key
+     * @param factory
+     *            makes the record to insert when the key is missing
+     * @return the existing record or the newly inserted one
+     */
+    public Record findOrInsert(String key, Function<String, Record> factory) {
+        long code = options.getHashFunction().hash(key);
+        int s = stripeOf(code);
+        Record found = lookup(stripes.get(s), key, code);
+        if (found != null) {
+            return found;
+        }
+
+        synchronized (locks[s]) {
+            StripeTable table = stripes.get(s);
+            found = lookup(table, key, code);
+            if (found != null) { // another thread inserted it first
+                return found;
+            }
+            Record record = factory.apply(key);
+            if (table.getCount() + 1 > table.length() * options
+                .getLoadFactor() && table.length() < Hash.maxLength(
+                    options)) {
+                table = resize(s, Hash.grownLength(table.length(), options));
+                Hash.announceGrowth(record.getType());
+            }
+            int pos = freeSlot(table, code);
+            while (pos == -1) { // probing never reaches a free slot
+                if (table.length() >= Hash.maxLength(options)) {
+                    throw new IllegalStateException(
+                        "hash table is full at its maximum capacity");
+                }
+                table = resize(s, Hash.grownLength(table.length(), options));
+                Hash.announceGrowth(record.getType());
+                pos = freeSlot(table, code);
+            }
+            table.set(pos, record, code);
+            table.setCount(table.getCount() + 1);
+            return record;
+        }
+    }
+
+
+    /**
+     * Copies a stripe into a new one of the given length, or the next
+     * bigger one some record cannot reach a free slot in, and swaps it in.
+     * Called with the lock of the stripe held.
+     * 
+     * @param s
+     *            is the stripe
+     * @param length
+     *            is the length to try first
+     * @return the new stripe
+     */
+    private StripeTable resize(int s, int length) {
+        StripeTable old = stripes.get(s);
+        StripeTable table = copy(old, length);
+        while (table == null) {
+            if (length >= Hash.maxLength(options)) {
+                throw new IllegalStateException(
+                    "hash table is full at its maximum capacity");
+            }
+            length = Hash.grownLength(length, options);
+            table = copy(old, length);
+        }
+        stripes.set(s, table);
+        return table;
+    }
+
+
+    /**
+     * Makes a stripe of the given length holding the records of another
+     * 
+     * @param old
+     *            is the stripe to copy
+     * @param length
+     *            is the new length
+     * @return the new stripe, or null if some record cannot reach a free
+     *         slot in it
+     */
+    private StripeTable copy(StripeTable old, int length) {
+        StripeTable table = new StripeTable(length);
+        for (int j = 0; j < old.length(); j++) {
+            Record record = old.get(j);
+            if (record != null && record != tombstone) {
+                int pos = freeSlot(table, old.getHash(j));
+                if (pos == -1) {
+                    return null;
+                }
+                table.set(pos, record, old.getHash(j));
+            }
+        }
+        table.setCount(old.getCount());
+        return table;
+    }
+
+
+    /**
+     * Grows every stripe once so that the table holds count records, spread
+     * evenly over the stripes, without growing again. Prints nothing and
+     * never shrinks a stripe.
+     * 
+     * @param count
+     *            is the number of records the table should hold
+     */
+    public void reserve(int count) {
+        int share = (count + stripes.length() - 1) / stripes.length();
+        for (int s = 0; s < stripes.length(); s++) {
+            synchronized (locks[s]) {
+                int length = stripes.get(s).length();
+                int reserved = Hash.reservedLength(length, share, options);
+                if (reserved > length) {
+                    resize(s, reserved);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Removes record from hash, leaving a tombstone. Locks the stripe of the
+     * key.
+     * 
+     * @param key
+     *            from record
+     */
+    public void remove(String key) {
+        long code = options.getHashFunction().hash(key);
+        int s = stripeOf(code);
+        synchronized (locks[s]) {
+            StripeTable table = stripes.get(s);
+            int pos = locate(table, key, code);
+            if (pos == -1) {
+                return;
+            }
+            table.set(pos, tombstone, 0);
+            table.setCount(table.getCount() - 1);
+
+            if (table.getCount() < table.length() * options
+                .getMinLoadFactor() && table.length() > minLength) {
+                int length = Hash.shrunkLength(table.length(), minLength,
+                    options);
+                if (length < table.length() && table.getCount() <= length
+                    * options.getLoadFactor() / 2) {
+                    StripeTable smaller = copy(table, length);
+                    if (smaller != null) {
+                        stripes.set(s, smaller);
+                    }
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Calls action once for every record in the table, stripe by stripe
+     * 
+     * @param action
+     *            is what to do with each record
+     */
+    public void forEachRecord(Consumer<Record> action) {
+        for (int s = 0; s < stripes.length(); s++) {
+            StripeTable table = stripes.get(s);
+            for (int j = 0; j < table.length(); j++) {
+                Record record = table.get(j);
+                if (record != null && record != tombstone) {
+                    action.accept(record);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Gives every record a new node index, after the graph was compacted
+     * 
+     * @param map
+     *            is the new index for each old index
+     */
+    public void renumberNodes(int[] map) {
+        forEachRecord(record -> record.setIndex(map[record.getIndex()]));
+    }
+
+
+    /**
+     * Prints hash table contents in order of position
+     */
+    public void print() {
+        int count = stripes.length();
+        StripeTable[] tables = new StripeTable[count];
+        int longest = 0;
+        for (int s = 0; s < count; s++) {
+            tables[s] = stripes.get(s);
+            longest = Math.max(longest, tables[s].length());
+        }
+        for (int j = 0; j < longest; j++) {
+            for (int s = 0; s < count; s++) {
+                Record record = j < tables[s].length()
+                    ? tables[s].get(j)
+                    : null;
+                if (record == tombstone) {
+                    System.out.println((j * count + s) + ": TOMBSTONE");
+                }
+                else if (record != null) {
+                    System.out.println((j * count + s) + ": |" + record
+                        .getKey().trim() + "|");
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Counts the slots find looks at for a key
+     * 
+     * @param key
+     *            is the record key
+     * @return number of slots looked at
+     */
+    public int probes(String key) {
+        long code = options.getHashFunction().hash(key);
+        StripeTable table = stripes.get(stripeOf(code));
+        int length = table.length();
+        int home = Hash.home(code, length, options);
+        int pos = home;
+        int count = 1;
+        for (int i = 0; i < length; i++) {
+            Record record = table.get(pos);
+            if (record == null || record != tombstone && table.getHash(
+                pos) == code && key.equals(record.getKey())) {
+                return count;
+            }
+            pos = Hash.next(home, i, length, options);
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,347 @@
+// On my honor:
+// - I have not used source code obtained from another current or
+// former student, or any other unauthorized source, either
+// modified or unmodified.
+//
+// - All source code and documentation used in my program is
+// either my original work, or was derived by me from the
+// source code published in the textbook for this course.
+//
+// - I have not discussed coding details about this project with
+// anyone other than my partner (in the case of a joint
+// submission), instructor, ACM/UPE tutors or the TAs assigned
+// to this course. I understand that I may discuss the concepts
+// of this program with other students, and that another student
+// may help me debug my program so long as neither of us writes
+// anything during the discussion or modifies any computer file
+// during the discussion. I have violated neither the spirit nor
+// letter of this restriction.
+import student.TestCase;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Test class for methods in ConcurrentHash class
+ * 
+ * @author Shruti & Lakshitha
+ * @version 9/19/24
+ */
+public class ConcurrentHashTest extends TestCase {
+    private ConcurrentHash hash;
+
+    /**
+     * Sets up the tests that follow
+     */
+    public void setUp() {
+        hash = new ConcurrentHash(64, 4, new HashOptions());
+    }
+
+
+    /**
+     * Runs tasks on their own threads and waits for all of them
+     * 
+     * @param tasks
+     *            is what each thread runs
+     * @return the first error a thread threw, or null
+     */
+    private static Throwable runAll(List<Runnable> tasks) {
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        List<Thread> threads = new ArrayList<>();
+        for (Runnable task : tasks) {
+            Thread thread = new Thread(task);
+            thread.setUncaughtExceptionHandler((t, e) -> error
+                .compareAndSet(null, e));
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            }
+            catch (InterruptedException e) {
+                error.compareAndSet(null, e);
+            }
+        }
+        return error.get();
+    }
+
+
+    /**
+     * Tests the constructor splits the slots over the stripes
+     */
+    public void testConstructor() {
+        assertEquals(4, hash.getStripeCount());
+        assertEquals(16, hash.getStripeLength(0));
+        assertEquals(0, hash.getNumberOfRecords());
+        assertEquals(ConcurrentHash.DEFAULT_STRIPES, new ConcurrentHash(64,
+            new HashOptions()).getStripeCount());
+
+        Exception thrown = null;
+        try {
+            new ConcurrentHash(64, 0, new HashOptions());
+        }
+        catch (IllegalArgumentException e) {
+            thrown = e;
+        }
+        assertNotNull(thrown);
+    }
+
+
+    /**
+     * Tests insert, find, getRecord and remove
+     */
+    public void testInsertFindRemove() {
+        Record record = new Record("hokies", 7, RecordType.ARTIST);
+        hash.insert(record);
+        assertSame(record, hash.getRecord("hokies"));
+        assertTrue(hash.find("hokies") >= 0);
+        assertEquals(1, hash.probes("hokies"));
+        assertNull(hash.getRecord("notThere"));
+        assertEquals(-1, hash.find("notThere"));
+
+        hash.insert(new Record("hokies", 8, RecordType.ARTIST));
+        assertEquals(1, hash.getNumberOfRecords());
+        assertSame(record, hash.findOrInsert("hokies", key -> null));
+
+        hash.remove("hokies");
+        hash.remove("hokies");
+        assertEquals(0, hash.getNumberOfRecords());
+        assertNull(hash.getRecord("hokies"));
+    }
+
+
+    /**
+     * Tests print shows each record and tombstone at its position
+     */
+    public void testPrint() {
+        hash.insert(new Record("hokies", 0, RecordType.SONG));
+        hash.insert(new Record("blacksburg", 1, RecordType.SONG));
+        int pos = hash.find("hokies");
+        hash.remove("blacksburg");
+        systemOut().clearHistory();
+        hash.print();
+        String output = systemOut().getHistory();
+        assertTrue(output.contains(pos + ": |hokies|"));
+        assertTrue(output.contains(": TOMBSTONE"));
+        assertFalse(output.contains("blacksburg"));
+    }
+
+
+    /**
+     * Tests a full stripe grows on its own and announces it
+     */
+    public void testGrowth() {
+        ConcurrentHash one = new ConcurrentHash(4, 1, new HashOptions());
+        one.insert(new Record("a", 0, RecordType.SONG));
+        one.insert(new Record("b", 1, RecordType.SONG));
+        systemOut().clearHistory();
+        one.insert(new Record("c", 2, RecordType.SONG));
+        assertEquals("Song hash table size doubled.", systemOut()
+            .getHistory().trim());
+        assertEquals(8, one.getStripeLength(0));
+        for (String key : new String[] { "a", "b", "c" }) {
+            assertNotNull(one.getRecord(key));
+        }
+
+        for (int i = 0; i < 100; i++) {
+            hash.insert(new Record("key" + i, i, RecordType.SONG));
+        }
+        assertEquals(100, hash.getNumberOfRecords());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, hash.getRecord("key" + i).getIndex());
+        }
+    }
+
+
+    /**
+     * Tests sparse stripes shrink back, but not below their first length
+     */
+    public void testShrink() {
+        HashOptions options = new HashOptions();
+        options.setMinLoadFactor(0.25);
+        ConcurrentHash one = new ConcurrentHash(4, 1, options);
+        for (int i = 0; i < 20; i++) {
+            one.insert(new Record("key" + i, i, RecordType.SONG));
+        }
+        int grown = one.getStripeLength(0);
+        for (int i = 0; i < 20; i++) {
+            one.remove("key" + i);
+        }
+        assertTrue(one.getStripeLength(0) < grown);
+        assertTrue(one.getStripeLength(0) >= 4);
+        assertEquals(0, one.getNumberOfRecords());
+    }
+
+
+    /**
+     * Tests reserve grows the stripes once so that no insert grows them
+     */
+    public void testReserve() {
+        hash.reserve(200);
+        systemOut().clearHistory();
+        int length = hash.getStripeLength(0);
+        assertTrue(length >= 100);
+        for (int i = 0; i < 150; i++) {
+            hash.insert(new Record("key" + i, i, RecordType.SONG));
+        }
+        assertEquals("", systemOut().getHistory());
+        hash.reserve(10);
+        assertEquals(length, hash.getStripeLength(0));
+    }
+
+
+    /**
+     * Tests triangular probing rounds the stripes to powers of two
+     */
+    public void testTriangular() {
+        HashOptions options = new HashOptions();
+        options.setTriangularProbing(true);
+        ConcurrentHash table = new ConcurrentHash(100, 4, options);
+        assertEquals(32, table.getStripeLength(0));
+        for (int i = 0; i < 200; i++) {
+            table.insert(new Record("key" + i, i, RecordType.SONG));
+        }
+        for (int i = 0; i < 200; i++) {
+            assertNotNull(table.getRecord("key" + i));
+        }
+    }
+
+
+    /**
+     * Tests forEachRecord and renumberNodes visit every live record
+     */
+    public void testForEachAndRenumber() {
+        for (int i = 0; i < 10; i++) {
+            hash.insert(new Record("key" + i, i, RecordType.SONG));
+        }
+        hash.remove("key3");
+        AtomicInteger count = new AtomicInteger();
+        hash.forEachRecord(record -> count.incrementAndGet());
+        assertEquals(9, count.get());
+
+        int[] map = new int[10];
+        for (int i = 0; i < 10; i++) {
+            map[i] = 9 - i;
+        }
+        hash.renumberNodes(map);
+        assertEquals(9, hash.getRecord("key0").getIndex());
+        assertEquals(0, hash.getRecord("key9").getIndex());
+    }
+
+
+    /**
+     * Tests threads racing to insert the same keys all get one record per
+     * key, made by one factory call
+     */
+    public void testRacingInserts() {
+        ConcurrentHash table = new ConcurrentHash(8, 2, new HashOptions());
+        AtomicInteger made = new AtomicInteger();
+        List<Record[]> seen = new ArrayList<>();
+        List<Runnable> tasks = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            Record[] mine = new Record[500];
+            seen.add(mine);
+            tasks.add(() -> {
+                for (int i = 0; i < mine.length; i++) {
+                    int index = i;
+                    mine[i] = table.findOrInsert("key" + i, key -> {
+                        made.incrementAndGet();
+                        return new Record(key, index, RecordType.ARTIST);
+                    });
+                }
+            });
+        }
+        systemOut().clearHistory();
+        assertNull(runAll(tasks));
+        assertEquals(500, made.get());
+        assertEquals(500, table.getNumberOfRecords());
+        for (int i = 0; i < 500; i++) {
+            Record record = table.getRecord("key" + i);
+            for (Record[] mine : seen) {
+                assertSame(record, mine[i]);
+            }
+        }
+    }
+
+
+    /**
+     * Tests writers inserting and removing while readers look up keys that
+     * stay in the table, and keys being removed, which must come back as
+     * null or as their own record, never a tombstone or another key
+     */
+    public void testStress() {
+        ConcurrentHash table = new ConcurrentHash(16, 4, new HashOptions());
+        for (int i = 0; i < 200; i++) {
+            table.insert(new Record("fixed" + i, i, RecordType.SONG));
+        }
+        AtomicInteger writersLeft = new AtomicInteger(5);
+        List<Runnable> tasks = new ArrayList<>();
+        tasks.add(() -> { // removes and inserts the same few keys again
+            for (int i = 0; i < 20000; i++) {
+                String key = "churn" + i % 10;
+                table.insert(new Record(key, i, RecordType.SONG));
+                table.remove(key);
+            }
+            writersLeft.decrementAndGet();
+        });
+        for (int t = 0; t < 4; t++) {
+            String prefix = "writer" + t + "-";
+            tasks.add(() -> {
+                for (int i = 0; i < 3000; i++) {
+                    table.insert(new Record(prefix + i, i, RecordType.SONG));
+                    if (i % 2 == 1) {
+                        table.remove(prefix + (i - 1));
+                    }
+                }
+                writersLeft.decrementAndGet();
+            });
+        }
+        for (int t = 0; t < 2; t++) {
+            tasks.add(() -> {
+                do {
+                    for (int i = 0; i < 200; i++) {
+                        Record record = table.getRecord("fixed" + i);
+                        if (record == null || record.getIndex() != i) {
+                            throw new IllegalStateException("lost fixed"
+                                + i);
+                        }
+                    }
+                }
+                while (writersLeft.get() > 0);
+            });
+        }
+        for (int t = 0; t < 2; t++) {
+            int id = t;
+            tasks.add(() -> { // reads keys that are being removed
+                int i = 0;
+                do {
+                    String key = i % 2 == 0
+                        ? "churn" + i % 10
+                        : "writer" + (i % 4) + "-" + (i * 7 + id) % 3000;
+                    Record record = table.getRecord(key);
+                    if (record != null && !key.equals(record.getKey())) {
+                        throw new IllegalStateException("asked for " + key
+                            + " got " + record.getKey());
+                    }
+                    i++;
+                }
+                while (writersLeft.get() > 0);
+            });
+        }
+        systemOut().clearHistory();
+        assertNull(runAll(tasks));
+
+        assertEquals(200 + 4 * 1500, table.getNumberOfRecords());
+        AtomicInteger count = new AtomicInteger();
+        table.forEachRecord(record -> count.incrementAndGet());
+        assertEquals(table.getNumberOfRecords(), count.get());
+        for (int t = 0; t < 4; t++) {
+            for (int i = 0; i < 3000; i++) {
+                Record record = table.getRecord("writer" + t + "-" + i);
+                assertEquals(i % 2 == 1, record != null);
+            }
+        }
+    }
+}
@@ -16,6 +16,9 @@
 // anything during the discussion or modifies any computer file
 // during the discussion. I have violated neither the spirit nor
 // letter of this restriction.
+import java.util.HashSet;
+import java.util.Set;
+
 // -------------------------------------------------------------------------
 /**
  * This class contains the methods that are called in the command processor.
@@ -29,11 +32,11 @@ public class Controller {
     /*
      * the Hash that contains artists
      */
-    private Hash artist;
+    private RecordTable artist;
     /*
      * the hash that contains the songs
      */
-    private Hash song;
+    private RecordTable song;
     /*
      * the graph fullGraph contains nodes
      */
@@ -42,6 +45,18 @@ public class Controller {
      * nodeNumber tracks how many nodes are there
      */
     private int nodeNumber;
+    /*
+     * share of the graph in use before it is compacted, 0 for never
+     */
+    private double minLoadFactor;
+    /*
+     * one string per key text for both tables, null with the compact layout
+     */
+    private KeyPool pool;
+    /*
+     * key bytes of both tables, null unless the layout is compact
+     */
+    private KeyArena arena;
 
     // ~ Constructors ..........................................................
 
@@ -53,10 +68,42 @@ public class Controller {
      *            passes in a size to initialize the hash to.
      */
     public Controller(int hashSize) {
-        artist = new Hash(hashSize);
-        song = new Hash(hashSize);
-        fullGraph = new Graph(hashSize);
+        this(hashSize, new HashOptions());
+    }
+
+
+    /**
+     * Create a new Controller object with options for how the tables and
+     * the graph grow.
+     * 
+     * @param hashSize
+     *            passes in a size to initialize the hash to.
+     * @param options
+     *            the layout of both hash tables, and the growth settings
+     *            used by them and the graph
+     */
+    public Controller(int hashSize, HashOptions options) {
+        if (options.getLayout() == TableLayout.COMPACT) {
+            arena = new KeyArena(1024);
+            artist = new CompactHash(hashSize, RecordType.ARTIST, options,
+                arena);
+            song = new CompactHash(hashSize, RecordType.SONG, options, arena);
+        }
+        else if (options.getLayout() == TableLayout.DENSE) {
+            pool = new KeyPool();
+            artist = new DenseHash(hashSize, options);
+            song = new DenseHash(hashSize, options);
+        }
+        else {
+            pool = new KeyPool();
+            artist = new Hash(hashSize, options);
+            song = new Hash(hashSize, options);
+        }
+        fullGraph = new Graph(hashSize, options.getLoadFactor(), options
+            .getGrowthFactor(), options.getMaxCapacity());
+        fullGraph.setEdgeIndex(options.isEdgeIndex());
         nodeNumber = -1;
+        minLoadFactor = options.getMinLoadFactor();
 
     }
 
@@ -71,6 +118,70 @@ public class Controller {
     }
 
 
+    /**
+     * Gives the one string kept for the text of a new key, so a name that is
+     * both an artist and a song is stored once
+     * 
+     * @param key
+     *            is the new key
+     * @return the pooled string, or key itself with the compact layout
+     */
+    private String intern(String key) {
+        return pool == null ? key : pool.intern(key);
+    }
+
+
+    /**
+     * Prints how many new keys had text another key already had, and the
+     * bytes that not storing it twice saved
+     */
+    public void printKeyReport() {
+        if (pool != null) {
+            System.out.println("Key pool: " + pool.getLookups()
+                + " keys, " + pool.getShared() + " shared, " + pool
+                    .getSaved() + " bytes saved");
+        }
+        else {
+            System.out.println("Key arena: " + (arena.getDistinct() + arena
+                .getShared()) + " keys, " + arena.getShared() + " shared, "
+                + arena.getSaved() + " bytes saved, " + arena.getSize()
+                + " bytes off heap");
+        }
+    }
+
+
+    /**
+     * Prints, for each table with a Bloom filter, how many lookups of missing
+     * keys the filter answered and how many it let through to probe
+     */
+    public void printFilterReport() {
+        printFilterReport("Artist", artist);
+        printFilterReport("Song", song);
+    }
+
+
+    /**
+     * Prints the Bloom filter counts of one table, if it has a filter
+     * 
+     * @param label
+     *            is the name of the table
+     * @param table
+     *            is the table
+     */
+    private void printFilterReport(String label, RecordTable table) {
+        if (!(table instanceof Hash) || ((Hash)table).getFilter() == null) {
+            return;
+        }
+        Hash hash = (Hash)table;
+        long rejects = hash.getFilterRejects();
+        long falsePositives = hash.getFalsePositives();
+        System.out.println(label + " filter: " + (rejects + falsePositives)
+            + " misses, " + rejects + " answered by the filter, "
+            + falsePositives + " false positives, rate " + hash
+                .getFalsePositiveRate());
+    }
+
+
     /**
      * Inserts the artist / song
      * 
@@ -80,46 +191,94 @@ public class Controller {
      *            name of the song to be added.
      */
     public void insert(String artistName, String songName) {
+        insert(artistName, songName, true);
+    }
+
+
+    /**
+     * Inserts many artist / song pairs at once. Gives the same records and
+     * graph as calling insert for each pair, but prints no added or
+     * duplicate messages. The new artists and songs are counted first, and
+     * both tables and the graph grow once to fit them, so nothing grows
+     * while the pairs go in, unless quadratic probing cannot reach a free
+     * slot in a table.
+     * 
+     * @param pairs
+     *            each an artist name followed by a song name
+     */
+    public void load(String[][] pairs) {
+        Set<String> newArtists = new HashSet<>();
+        Set<String> newSongs = new HashSet<>();
+        for (String[] pair : pairs) {
+            String artistName = pair[0].trim();
+            String songName = pair[1].trim();
+            if (artist.getRecord(artistName) == null) {
+                newArtists.add(artistName);
+            }
+            if (song.getRecord(songName) == null) {
+                newSongs.add(songName);
+            }
+        }
+        artist.reserve(artist.getNumberOfRecords() + newArtists.size());
+        song.reserve(song.getNumberOfRecords() + newSongs.size());
+        fullGraph.reserve(nodeNumber + 1 + newArtists.size() + newSongs
+            .size());
+
+        for (String[] pair : pairs) {
+            insert(pair[0], pair[1], false);
+        }
+    }
+
+
+    /**
+     * Inserts the artist / song, printing what happened if asked to
+     * 
+     * @param artistName
+     *            name of artist to be added
+     * @param songName
+     *            name of the song to be added.
+     * @param verbose
+     *            true to print the added and duplicate messages
+     */
+    private void insert(String artistName, String songName, boolean verbose) {
 
         // Trim whitespace from artist and song names
         artistName = artistName.trim();
         songName = songName.trim();
 
-        // Check for an artist node
-        Node artistNode = null;
-        int artistIndex = artist.find(artistName);
-        if (artistIndex == -1) { // Artist not in the artist hash
-            artistNode = new Node(calculateNode());
-            artist.insert(new Record(artistName, artistNode, "artist"));
+        // Find or add the artist node
+        int before = nodeNumber;
+        int artistNode = artist.findOrInsert(artistName, key -> new Record(
+            intern(key), calculateNode(), RecordType.ARTIST)).getIndex();
+        if (nodeNumber != before) { // Artist was not in the artist hash
             fullGraph.newNode(artistNode);
-            System.out.println("|" + artistName
-                + "| is added to the Artist database.");
-        }
-        else {
-            artistNode = artist.getRecord(artistName).getNode();
+            if (verbose) {
+                System.out.println("|" + artistName
+                    + "| is added to the Artist database.");
+            }
         }
 
-        // Check for a song node
-        Node songNode = null;
-        int songIndex = song.find(songName);
-        if (songIndex == -1) { // Song not in the song hash
-            songNode = new Node(calculateNode());
-            song.insert(new Record(songName, songNode, "song"));
+        // Find or add the song node
+        before = nodeNumber;
+        int songNode = song.findOrInsert(songName, key -> new Record(intern(
+            key), calculateNode(), RecordType.SONG)).getIndex();
+        if (nodeNumber != before) { // Song was not in the song hash
             fullGraph.newNode(songNode);
-            System.out.println("|" + songName
-                + "| is added to the Song database.");
-        }
-        else {
-            songNode = song.getRecord(songName).getNode();
+            if (verbose) {
+                System.out.println("|" + songName
+                    + "| is added to the Song database.");
+            }
         }
 
         // Check if an edge exists between the two
-        if (fullGraph.hasEdge(artistNode.getIndex(), songNode.getIndex())) {
-            System.out.println("|" + artistName + "<SEP>" + songName
-                + "| duplicates a record already in the database.");
+        if (fullGraph.hasEdge(artistNode, songNode)) {
+            if (verbose) {
+                System.out.println("|" + artistName + "<SEP>" + songName
+                    + "| duplicates a record already in the database.");
+            }
         }
         else {
-            fullGraph.addEdge(artistNode.getIndex(), songNode.getIndex());
+            fullGraph.addEdge(artistNode, songNode);
         }
     }
 
@@ -131,20 +290,19 @@ public class Controller {
      *            name of artist to be removed
      */
     public void removeArtist(String artistName) {
-        Node artistNode;
         artistName = artistName.trim();
-        int artistIndex = artist.find(artistName);
-        if (artistIndex == -1) // artist isnt in there
+        Record artistRecord = artist.getRecord(artistName);
+        if (artistRecord == null) // artist isnt in there
         {
             System.out.println("|" + artistName
                 + "| does not exist in the Artist database.");
         }
         else {
-            artistNode = artist.getRecord(artistName).getNode();
             artist.remove(artistName);
             System.out.println("|" + artistName
                 + "| is removed from the Artist database.");
-            fullGraph.removeNode(artistNode);
+            fullGraph.removeNode(artistRecord.getIndex());
+            compactIfSparse();
         }
 
     }
@@ -157,25 +315,50 @@ public class Controller {
      *            name of the song to be removed
      */
     public void removeSong(String songName) {
-        Node songNode;
         songName = songName.trim();
-        int songIndex = song.find(songName);
-        if (songIndex == -1) // song isnt in there
+        Record songRecord = song.getRecord(songName);
+        if (songRecord == null) // song isnt in there
         {
             System.out.println("|" + songName
                 + "| does not exist in the Song database.");
         }
         else {
-            songNode = song.getRecord(songName).getNode();
             song.remove(songName);
             System.out.println("|" + songName
                 + "| is removed from the Song database.");
-            fullGraph.removeNode(songNode);
+            fullGraph.removeNode(songRecord.getIndex());
+            compactIfSparse();
         }
 
     }
 
 
+    /**
+     * Compacts the graph once the share of it in use drops below the
+     * minimum load factor, and renumbers the nodes of every record to match.
+     * Skipped when compacting would neither shrink the graph nor free half
+     * of the node indexes handed out, so removals at the first size do not
+     * compact over and over.
+     */
+    private void compactIfSparse() {
+        if (fullGraph.getNumberOfNodes() >= fullGraph.getSize()
+            * minLoadFactor || !fullGraph.canCompact(nodeNumber + 1)) {
+            return;
+        }
+        int[] map = fullGraph.compact();
+        if (map == null) { // nothing moved
+            return;
+        }
+        artist.renumberNodes(map);
+        song.renumberNodes(map);
+
+        nodeNumber = -1; // next node goes after the last one in use
+        for (int index : map) {
+            nodeNumber = Math.max(nodeNumber, index);
+        }
+    }
+
+
     /**
      * Prints the total number of artists
      */
@@ -196,4 +196,118 @@ public class ControllerTest extends TestCase {
 
     }
 
+
+    /**
+     * Tests the graph compacts after mass removals and inserts still work
+     */
+    public void testCompaction() {
+        HashOptions options = new HashOptions();
+        options.setMinLoadFactor(0.2);
+        controller = new Controller(4, options);
+        for (int i = 0; i < 20; i++) {
+            controller.insert("Artist" + i, "Song" + i);
+        }
+        controller.insert("Artist19", "Song0");
+        for (int i = 0; i < 18; i++) {
+            controller.removeArtist("Artist" + i);
+            controller.removeSong("Song" + (i + 1));
+        }
+        outContent.reset();
+        controller.printBlock();
+        controller.insert("Artist18", "Song0");
+        controller.insert("Artist18", "Song18");
+        controller.insert("Artist40", "Song40");
+        controller.printBlock();
+
+        String expectedOutput = "There are 2 connected components\n"
+            + "The largest connected component has 3 elements\n"
+            + "|Song18| is added to the Song database.\n"
+            + "|Artist40| is added to the Artist database.\n"
+            + "|Song40| is added to the Song database.\n"
+            + "There are 2 connected components\n"
+            + "The largest connected component has 5 elements\n";
+        assertEquals(expectedOutput, outContent.toString());
+    }
+
+
+    /**
+     * Tests the key report counts names that are both artist and song
+     */
+    public void testKeyReport() {
+        controller.insert("Ma Rainey", new String("Ma Rainey"));
+        controller.insert("Hokies", "Song1");
+        controller.insert(" Hokies ", "Song2");
+        outContent.reset();
+        controller.printKeyReport();
+        assertEquals("Key pool: 5 keys, 1 shared, 56 bytes saved\n",
+            outContent.toString());
+
+        HashOptions options = new HashOptions();
+        options.setLayout(TableLayout.COMPACT);
+        controller = new Controller(10, options);
+        controller.insert("Ma Rainey", "Ma Rainey");
+        controller.insert("Hokies", "Song1");
+        outContent.reset();
+        controller.printKeyReport();
+        assertEquals("Key arena: 4 keys, 1 shared, 9 bytes saved, "
+            + "20 bytes off heap\n", outContent.toString());
+    }
+
+
+    /**
+     * Tests the filter report counts lookups of missing names, and prints
+     * nothing for tables without a filter
+     */
+    public void testFilterReport() {
+        outContent.reset();
+        controller.printFilterReport();
+        assertEquals("", outContent.toString());
+
+        HashOptions options = new HashOptions();
+        options.setBloomBitsPerKey(10);
+        controller = new Controller(10, options);
+        controller.insert("Hokies", "Song1");
+        controller.removeArtist("Wahoos");
+        controller.removeArtist("Hokies");
+        outContent.reset();
+        controller.printFilterReport();
+        assertEquals("Artist filter: 2 misses, 2 answered by the filter, "
+            + "0 false positives, rate 0.0\nSong filter: 1 misses, "
+            + "1 answered by the filter, 0 false positives, rate 0.0\n",
+            outContent.toString());
+    }
+
+
+    /**
+     * Tests load gives the same graph as inserting one pair at a time,
+     * without printing anything
+     */
+    public void testLoad() {
+        String[][] pairs = new String[30][];
+        for (int i = 0; i < pairs.length; i++) {
+            pairs[i] = new String[] { "Artist" + i % 7, " Song" + i % 11 };
+        }
+        for (String[] pair : pairs) {
+            controller.insert(pair[0], pair[1]);
+        }
+        controller.removeSong("Song3");
+        outContent.reset();
+        controller.printBlock();
+        String expected = outContent.toString();
+
+        controller = new Controller(10);
+        outContent.reset();
+        controller.load(pairs);
+        assertEquals("", outContent.toString());
+        controller.removeSong("Song3");
+        outContent.reset();
+        controller.printBlock();
+        assertEquals(expected, outContent.toString());
+
+        controller.load(new String[][] { { "Artist0", "Song0" }, { "New",
+            "Song0" } });
+        controller.insert("New", "Song0");
+        assertTrue(outContent.toString().endsWith(
+            "|New<SEP>Song0| duplicates a record already in the database.\n"));
+    }
 }
@@ -0,0 +1,478 @@
+// On my honor:
+// - I have not used source code obtained from another current or
+// former student, or any other unauthorized source, either
+// modified or unmodified.
+//
+// - All source code and documentation used in my program is
+// either my original work, or was derived by me from the
+// source code published in the textbook for this course.
+//
+// - I have not discussed coding details about this project with
+// anyone other than my partner (in the case of a joint
+// submission), instructor, ACM/UPE tutors or the TAs assigned
+// to this course. I understand that I may discuss the concepts
+// of this program with other students, and that another student
+// may help me debug my program so long as neither of us writes
+// anything during the discussion or modifies any computer file
+// during the discussion. I have violated neither the spirit nor
+// letter of this restriction.
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Cuckoo hash table
+ * 
+ * Keeps two tables of the same length. A key can only be in one slot of
+ * each: the first table is indexed by sfold and the second by a hash that
+ * does not depend on sfold, so find looks at no more than two slots. An
+ * insert that finds both slots taken kicks the record in its first slot
+ * over to that record's other slot, and so on. If that goes on too long
+ * the records are in a cycle, and both tables double.
+ * 
+ * Each slot keeps the record and both hashes of its key, so a record can
+ * be kicked across or moved to bigger tables without hashing its key
+ * again. That takes one more long per slot than Hash.
+ *
+ * @author Shruti & Lakshitha
+ * @version 9/19/24
+ */
+public class CuckooHash implements RecordTable {
+
+    /**
+     * Default highest fraction of slots in use before the tables double
+     */
+    public static final double DEFAULT_LOAD = 0.45;
+
+    /**
+     * Most kicks one insert makes before the tables double
+     */
+    public static final int MAX_KICKS = 64;
+
+    /**
+     * private fields
+     */
+    private Record[] first; // records by sfold
+    private Record[] second; // records by the second hash
+    private long[] firstHash; // sfold of each record in first
+    private long[] firstOther; // second hash of each record in first
+    private long[] secondHash; // second hash of each record in second
+    private long[] secondOther; // sfold of each record in second
+    private long homelessCode; // sfold of the record place left out
+    private long homelessOther; // second hash of the record place left out
+    private int numberOfRecords; // number of records
+    private double maxLoad; // fraction of slots in use before doubling
+
+    /**
+     * Constructor method
+     * 
+     * @param size
+     *            is the number of slots in both tables together
+     */
+    public CuckooHash(int size) {
+        this(size, DEFAULT_LOAD);
+    }
+
+
+    /**
+     * Constructor method with a load factor
+     * 
+     * @param size
+     *            is the number of slots in both tables together
+     * @param maxLoad
+     *            is the fraction of slots in use before the tables double,
+     *            more than 0 and less than 1
+     */
+    public CuckooHash(int size, double maxLoad) {
+        if (!(maxLoad > 0 && maxLoad < 1)) {
+            throw new IllegalArgumentException(
+                "load factor must be between 0 and 1");
+        }
+        allocate(Math.max(1, size / 2));
+        this.numberOfRecords = 0;
+        this.maxLoad = maxLoad;
+    }
+
+
+    /**
+     * Makes new, empty tables of the given length
+     * 
+     * @param length
+     *            is the length of each table
+     */
+    private void allocate(int length) {
+        first = new Record[length];
+        second = new Record[length];
+        firstHash = new long[length];
+        firstOther = new long[length];
+        secondHash = new long[length];
+        secondOther = new long[length];
+    }
+
+
+    /**
+     * Get method for the number of records in table
+     * 
+     * @return number of records
+     */
+    public int getNumberOfRecords() {
+        return numberOfRecords;
+    }
+
+
+    /**
+     * Get method for the length of each of the two tables
+     * 
+     * @return table length
+     */
+    public int getLength() {
+        return first.length;
+    }
+
+
+    /**
+     * Second hash function, 64 bit FNV-1a over the chars of the key
+     * 
+     * @param s
+     *            the key
+     * @return the hash before it is reduced to a slot
+     */
+    public static long fnv(CharSequence s) {
+        long hash = 0xcbf29ce484222325L;
+        for (int k = 0; k < s.length(); k++) {
+            hash ^= s.charAt(k);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+
+    /**
+     * Reduces a hash to a slot, treating it as unsigned
+     * 
+     * @param code
+     *            the hash
+     * @param length
+     *            Length of the table
+     * @return the slot in the table
+     */
+    private static int slot(long code, int length) {
+        return (int)((code >>> 1) % length);
+    }
+
+
+    /**
+     * Retrieves a record from hash based on its key
+     * 
+     * @param key
+     *            is the key of the record
+     * @return the record
+     */
+    public Record getRecord(String key) {
+        int pos = find(key);
+        if (pos == -1) { // record not found
+            return null;
+        }
+        return pos < first.length ? first[pos] : second[pos - first.length];
+    }
+
+
+    /**
+     * Finds record in hash table based on key. Slots of the second table
+     * come after those of the first.
+     * 
+     * @param key
+     *            is the record key
+     * @return position or -1 if not found
+     */
+    public int find(String key) {
+        return find(key, Hash.sfold(key), fnv(key));
+    }
+
+
+    /**
+     * Finds a key whose hashes are already known
+     * 
+     * @param key
+     *            is the record key
+     * @param code
+     *            is the sfold of the key
+     * @param other
+     *            is the second hash of the key
+     * @return position or -1 if not found
+     */
+    private int find(String key, long code, long other) {
+        int pos = Hash.slot(code, first.length);
+        if (first[pos] != null && firstOther[pos] == other && key.equals(
+            first[pos].getKey())) {
+            return pos;
+        }
+        pos = slot(other, second.length);
+        if (second[pos] != null && secondOther[pos] == code && key.equals(
+            second[pos].getKey())) {
+            return first.length + pos;
+        }
+        return -1; // Key not found
+    }
+
+
+    /**
+     * Inserts a record into the hash
+     * 
+     * @param record
+     *            is the record to be inserted
+     */
+    public void insert(Record record) {
+        findOrInsert(record.getKey(), key -> record);
+    }
+
+
+    /**
+     * Returns the record stored under key, inserting the one made by factory
+     * if the key is not there yet
+     * 
+     * @param key
+     *            is the record key
+     * @param factory
+     *            makes the record to insert when the key is missing
+     * @return the existing record or the newly inserted one
+     */
+    public Record findOrInsert(String key, Function<String, Record> factory) {
+        long code = Hash.sfold(key);
+        long other = fnv(key);
+        int pos = find(key, code, other);
+        if (pos != -1) {
+            return pos < first.length ? first[pos] : second[pos - first.length];
+        }
+
+        Record record = factory.apply(key);
+        if (numberOfRecords + 1 > 2 * first.length * maxLoad) {
+            rehash();
+            Hash.announceGrowth(record.getType());
+        }
+        Record homeless = place(record, code, other);
+        while (homeless != null) { // a cycle, so double and try again
+            code = homelessCode;
+            other = homelessOther;
+            rehash();
+            Hash.announceGrowth(record.getType());
+            homeless = place(homeless, code, other);
+        }
+        numberOfRecords++;
+        return record;
+    }
+
+
+    /**
+     * Puts a record into the tables, kicking records across to their other
+     * table until one lands in an empty slot
+     * 
+     * @param record
+     *            is the record to place
+     * @param code
+     *            is the sfold of its key
+     * @param other
+     *            is the second hash of its key
+     * @return null, or the record left without a slot after MAX_KICKS kicks,
+     *         whose hashes are then in homelessCode and homelessOther
+     */
+    private Record place(Record record, long code, long other) {
+        for (int kick = 0; kick < MAX_KICKS; kick++) {
+            int pos = Hash.slot(code, first.length);
+            Record out = first[pos];
+            long outCode = firstHash[pos];
+            long outOther = firstOther[pos];
+            first[pos] = record;
+            firstHash[pos] = code;
+            firstOther[pos] = other;
+            if (out == null) {
+                return null;
+            }
+
+            // the kicked out record goes to its slot in the second table
+            record = out;
+            code = outCode;
+            other = outOther;
+            pos = slot(other, second.length);
+            out = second[pos];
+            outCode = secondOther[pos];
+            outOther = secondHash[pos];
+            second[pos] = record;
+            secondHash[pos] = other;
+            secondOther[pos] = code;
+            if (out == null) {
+                return null;
+            }
+
+            // and the one it kicked out goes back to the first table
+            record = out;
+            code = outCode;
+            other = outOther;
+        }
+        homelessCode = code;
+        homelessOther = other;
+        return record;
+    }
+
+
+    /**
+     * Grows the table once, to the length that inserting records one at a
+     * time would reach, so that it holds count records without growing
+     * again. Prints nothing and never shrinks the table.
+     * 
+     * @param count
+     *            is the number of records the table should hold
+     */
+    public void reserve(int count) {
+        int length = first.length;
+        while (count > 2 * length * maxLoad && length <= Integer.MAX_VALUE
+            / 2) {
+            length *= 2;
+        }
+        if (length > first.length) {
+            rehash(length);
+        }
+    }
+
+
+    /**
+     * Doubles both tables and adds all records from the old ones, doubling
+     * again if that runs into a cycle
+     */
+    private void rehash() {
+        if (first.length > Integer.MAX_VALUE / 2) {
+            throw new IllegalStateException(
+                "hash table is full at its maximum capacity");
+        }
+        rehash(first.length * 2);
+    }
+
+
+    /**
+     * Adds all records from the old tables to new ones of the given length,
+     * doubling again if that runs into a cycle
+     * 
+     * @param length
+     *            is the length of each new table
+     */
+    private void rehash(int length) {
+        Record[] oldFirst = first;
+        long[] oldFirstHash = firstHash;
+        long[] oldFirstOther = firstOther;
+        Record[] oldSecond = second;
+        long[] oldSecondHash = secondHash;
+        long[] oldSecondOther = secondOther;
+        allocate(length);
+        while (!(placeAll(oldFirst, oldFirstHash, oldFirstOther) && placeAll(
+            oldSecond, oldSecondOther, oldSecondHash))) {
+            if (length > Integer.MAX_VALUE / 2) {
+                throw new IllegalStateException(
+                    "hash table is full at its maximum capacity");
+            }
+            length *= 2;
+            allocate(length);
+        }
+    }
+
+
+    /**
+     * Places every record of an old table
+     * 
+     * @param records
+     *            is the old table
+     * @param codes
+     *            is the sfold of each record
+     * @param others
+     *            is the second hash of each record
+     * @return true if every record found a slot
+     */
+    private boolean placeAll(Record[] records, long[] codes, long[] others) {
+        for (int i = 0; i < records.length; i++) {
+            if (records[i] != null && place(records[i], codes[i],
+                others[i]) != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /**
+     * Removes record from hash
+     * 
+     * @param key
+     *            from record
+     */
+    public void remove(String key) {
+        int pos = find(key);
+        if (pos == -1) {
+            return;
+        }
+        if (pos < first.length) {
+            first[pos] = null;
+        }
+        else {
+            second[pos - first.length] = null;
+        }
+        numberOfRecords--;
+    }
+
+
+    /**
+     * Calls action once for every record in the table
+     * 
+     * @param action
+     *            is what to do with each record
+     */
+    public void forEachRecord(Consumer<Record> action) {
+        for (int i = 0; i < first.length; i++) {
+            if (first[i] != null) {
+                action.accept(first[i]);
+            }
+        }
+        for (int i = 0; i < second.length; i++) {
+            if (second[i] != null) {
+                action.accept(second[i]);
+            }
+        }
+    }
+
+
+    /**
+     * Gives every record a new node index, after the graph was compacted
+     * 
+     * @param map
+     *            is the new index for each old index
+     */
+    public void renumberNodes(int[] map) {
+        forEachRecord(record -> record.setIndex(map[record.getIndex()]));
+    }
+
+
+    /**
+     * Prints hash table contents, numbering the slots of the second table
+     * after those of the first
+     */
+    public void print() {
+        for (int i = 0; i < 2 * first.length; i++) {
+            Record record = i < first.length
+                ? first[i]
+                : second[i - first.length];
+            if (record != null) {
+                System.out.println(i + ": |" + record.getKey().trim() + "|");
+            }
+        }
+    }
+
+
+    /**
+     * Counts the slots find looks at for a key
+     * 
+     * @param key
+     *            is the record key
+     * @return number of slots looked at, 1 or 2
+     */
+    public int probes(String key) {
+        int pos = find(key);
+        return pos != -1 && pos < first.length ? 1 : 2;
+    }
+}
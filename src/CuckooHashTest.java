@@ -0,0 +1,231 @@
+// On my honor:
+// - I have not used source code obtained from another current or
+// former student, or any other unauthorized source, either
+// modified or unmodified.
+//
+// - All source code and documentation used in my program is
+// either my original work, or was derived by me from the
+// source code published in the textbook for this course.
+//
+// - I have not discussed coding details about this project with
+// anyone other than my partner (in the case of a joint
+// submission), instructor, ACM/UPE tutors or the TAs assigned
+// to this course. I understand that I may discuss the concepts
+// of this program with other students, and that another student
+// may help me debug my program so long as neither of us writes
+// anything during the discussion or modifies any computer file
+// during the discussion. I have violated neither the spirit nor
+// letter of this restriction.
+import student.TestCase;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+/**
+ * Test class for methods in CuckooHash class
+ * 
+ * @author Shruti & Lakshitha
+ * @version 9/19/24
+ */
+public class CuckooHashTest extends TestCase {
+    private CuckooHash hash;
+
+    /**
+     * Sets up the tests that follow
+     */
+    public void setUp() {
+        hash = new CuckooHash(32);
+    }
+
+
+    /**
+     * Tests insert, find and getRecord
+     */
+    public void testInsertFind() {
+        Record record = new Record("hokies", 1, RecordType.ARTIST);
+        hash.insert(record);
+        assertEquals(16, hash.getLength());
+        assertEquals(Hash.h("hokies", 16), hash.find("hokies"));
+        assertEquals(record, hash.getRecord("hokies"));
+        assertNull(hash.getRecord("notThere"));
+        assertEquals(1, hash.probes("hokies"));
+        assertEquals(2, hash.probes("notThere"));
+
+        hash.insert(new Record("hokies", 2, RecordType.ARTIST));
+        assertEquals(1, hash.getNumberOfRecords());
+        assertEquals(record, hash.getRecord("hokies"));
+    }
+
+
+    /**
+     * Tests a record is kicked to the second table by one with the same
+     * first slot
+     */
+    public void testKick() {
+        // 'A' and 'Q' both have slot 1 in the first table
+        hash.insert(new Record("A", 0, RecordType.SONG));
+        hash.insert(new Record("Q", 1, RecordType.SONG));
+        assertEquals(1, hash.find("Q"));
+        assertTrue(hash.find("A") >= 16);
+        assertEquals(2, hash.probes("A"));
+        assertEquals(0, hash.getRecord("A").getIndex());
+        assertEquals(1, hash.getRecord("Q").getIndex());
+        assertFalse(CuckooHash.fnv("A") == CuckooHash.fnv("Q"));
+    }
+
+
+    /**
+     * Tests remove
+     */
+    public void testRemove() {
+        hash.insert(new Record("A", 0, RecordType.SONG));
+        hash.insert(new Record("Q", 1, RecordType.SONG));
+        hash.remove("A");
+        hash.remove("notThere");
+        assertNull(hash.getRecord("A"));
+        assertEquals(1, hash.getRecord("Q").getIndex());
+        assertEquals(1, hash.getNumberOfRecords());
+        hash.remove("Q");
+        assertEquals(0, hash.getNumberOfRecords());
+        assertEquals(-1, hash.find("Q"));
+    }
+
+
+    /**
+     * Tests the tables fill to the load factor before doubling
+     */
+    public void testRehash() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(outputStream));
+        try {
+            for (int i = 0; i < 14; i++) {
+                hash.insert(new Record("song" + i, i, RecordType.SONG));
+            }
+            assertEquals("", outputStream.toString());
+            assertEquals(16, hash.getLength());
+            hash.insert(new Record("song14", 14, RecordType.SONG));
+        }
+        finally {
+            System.setOut(originalOut);
+        }
+        assertEquals("Song hash table size doubled.", outputStream.toString()
+            .trim());
+        assertEquals(32, hash.getLength());
+        for (int i = 0; i < 15; i++) {
+            assertEquals(i, hash.getRecord("song" + i).getIndex());
+            assertTrue(hash.probes("song" + i) <= 2);
+        }
+    }
+
+
+    /**
+     * Tests a bad load factor is rejected
+     */
+    public void testBadLoad() {
+        Exception thrown = null;
+        try {
+            new CuckooHash(16, 0);
+        }
+        catch (IllegalArgumentException e) {
+            thrown = e;
+        }
+        assertNotNull(thrown);
+    }
+
+
+    /**
+     * Tests many removes and inserts keep every record reachable
+     */
+    public void testChurn() {
+        hash = new CuckooHash(4, 0.49);
+        PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        try {
+            for (int i = 0; i < 2000; i++) {
+                hash.insert(new Record("key" + i, i, RecordType.SONG));
+                if (i >= 300) {
+                    hash.remove("key" + (i - 300));
+                }
+            }
+        }
+        finally {
+            System.setOut(originalOut);
+        }
+        assertEquals(300, hash.getNumberOfRecords());
+        int[] count = new int[1];
+        hash.forEachRecord(record -> count[0]++);
+        assertEquals(300, count[0]);
+        for (int i = 1700; i < 2000; i++) {
+            assertEquals(i, hash.getRecord("key" + i).getIndex());
+        }
+        assertNull(hash.getRecord("key1699"));
+    }
+
+
+    /**
+     * Tests a load too high for two tables runs into cycles, and the records
+     * left out by them are placed with the hashes kept for them
+     */
+    public void testCycles() {
+        hash = new CuckooHash(4, 0.95);
+        systemOut().clearHistory();
+        for (int i = 0; i < 2000; i++) {
+            hash.insert(new Record("key" + i, i, RecordType.SONG));
+        }
+        assertTrue(hash.getLength() > 2048); // grew for cycles, not load
+        assertEquals(2000, hash.getNumberOfRecords());
+        for (int i = 0; i < 2000; i++) {
+            assertEquals(i, hash.getRecord("key" + i).getIndex());
+        }
+    }
+
+
+    /**
+     * Tests find or insert, renumberNodes and print
+     */
+    public void testFindOrInsertPrint() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(outputStream));
+        try {
+            Record first = hash.findOrInsert("A", k -> new Record(k, 1,
+                RecordType.SONG));
+            assertEquals(first, hash.findOrInsert("A", k -> null));
+            hash.findOrInsert("Q", k -> new Record(k, 0, RecordType.SONG));
+            hash.renumberNodes(new int[] { 1, 0 });
+            assertEquals(0, first.getIndex());
+            hash.print();
+        }
+        finally {
+            System.setOut(originalOut);
+        }
+        assertEquals("1: |Q|\n" + hash.find("A") + ": |A|", outputStream
+            .toString().trim().replace("\r", ""));
+    }
+
+
+    /**
+     * Tests reserve makes room for the records in one step
+     */
+    public void testReserve() {
+        hash = new CuckooHash(10);
+        hash.reserve(100);
+        int length = hash.getLength();
+        assertTrue(length > 10);
+        PrintStream originalOut = System.out;
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outputStream));
+        try {
+            for (int i = 0; i < 100; i++) {
+                hash.insert(new Record("song" + i, i, RecordType.SONG));
+            }
+        }
+        finally {
+            System.setOut(originalOut);
+        }
+        assertEquals("", outputStream.toString());
+        assertEquals(length, hash.getLength());
+        assertEquals(100, hash.getNumberOfRecords());
+        assertEquals(99, hash.getRecord("song99").getIndex());
+    }
+}
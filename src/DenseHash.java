@@ -0,0 +1,545 @@
+// On my honor:
+// - I have not used source code obtained from another current or
+// former student, or any other unauthorized source, either
+// modified or unmodified.
+//
+// - All source code and documentation used in my program is
+// either my original work, or was derived by me from the
+// source code published in the textbook for this course.
+//
+// - I have not discussed coding details about this project with
+// anyone other than my partner (in the case of a joint
+// submission), instructor, ACM/UPE tutors or the TAs assigned
+// to this course. I understand that I may discuss the concepts
+// of this program with other students, and that another student
+// may help me debug my program so long as neither of us writes
+// anything during the discussion or modifies any computer file
+// during the discussion. I have violated neither the spirit nor
+// letter of this restriction.
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Hash table stored as a sparse index over dense entries
+ * 
+ * Records go, in the order they are inserted, into a dense entries array.
+ * The slots of the table are an int index that holds the place of each
+ * record in the entries, and the slots are the same ones Hash would use.
+ * Going over every record only walks the entries, and growing the table
+ * only rebuilds the index. A removed record leaves a hole in the entries
+ * that is closed up the next time the entries fill.
+ * 
+ * Each entry also keeps its slot, and a hole keeps the deleted slot it left.
+ * Closing holes moves the slots still deleted to a short list of
+ * tombstones, so print sorts the entries and tombstones by slot instead of
+ * walking every slot of the index.
+ * 
+ * Uses the probing, hash function, load factor, growth factor, maximum
+ * capacity and minimum load factor of its options. Incremental resizing is
+ * not offered.
+ *
+ * @author Shruti & Lakshitha
+ * @version 9/19/24
+ */
+public class DenseHash implements RecordTable {
+
+    /**
+     * Index value of a slot never used since the last resize
+     */
+    private static final int EMPTY = -1;
+
+    /**
+     * Index value of a slot whose record was removed
+     */
+    private static final int DELETED = -2;
+
+    /**
+     * Slot of a hole whose deleted slot was reused or dropped by a resize
+     */
+    private static final int NO_SLOT = -1;
+
+    /**
+     * private fields
+     */
+    private int[] index; // place in entries for each slot, or EMPTY/DELETED
+    private Record[] entries; // records in insertion order, null if removed
+    private long[] hashes; // folded key of each entry
+    private int[] slots; // slot of each entry, or of the tombstone a hole left
+    private int[] tombstones; // deleted slots of holes that were closed
+    private int tombstoneCount; // number of tombstones listed
+    private int used; // entries handed out, including holes
+    private int numberOfRecords; // number of records
+    private HashOptions options; // how the table grows
+    private int minLength; // table never shrinks below its first length
+
+    /**
+     * Constructor method
+     * 
+     * @param size
+     *            is the initial size of the hash table
+     * @param options
+     *            is how the table grows
+     */
+    public DenseHash(int size, HashOptions options) {
+        if (options.isTriangularProbing()) {
+            size = Math.max(1, Integer.highestOneBit(size - 1) << 1);
+        }
+        this.index = emptyIndex(size);
+        this.entries = new Record[Math.max(1, size / 2)];
+        this.hashes = new long[entries.length];
+        this.slots = new int[entries.length];
+        this.tombstones = new int[0];
+        this.tombstoneCount = 0;
+        this.used = 0;
+        this.numberOfRecords = 0;
+        this.options = options;
+        this.minLength = size;
+    }
+
+
+    /**
+     * Makes an index with every slot empty
+     * 
+     * @param length
+     *            is the table length
+     * @return the index
+     */
+    private static int[] emptyIndex(int length) {
+        int[] slots = new int[length];
+        Arrays.fill(slots, EMPTY);
+        return slots;
+    }
+
+
+    /**
+     * Get method for the number of records in table
+     * 
+     * @return number of records
+     */
+    public int getNumberOfRecords() {
+        return numberOfRecords;
+    }
+
+
+    /**
+     * Get method for the number of slots in the table
+     * 
+     * @return the table length
+     */
+    public int getLength() {
+        return index.length;
+    }
+
+
+    /**
+     * Get method for the number of entries handed out, holes included
+     * 
+     * @return entries in use
+     */
+    public int getUsed() {
+        return used;
+    }
+
+
+    /**
+     * Retrieves a record from hash based on its key
+     * 
+     * @param key
+     *            is the key of the record
+     * @return the record, or null if not found
+     */
+    public Record getRecord(String key) {
+        int pos = find(key);
+        if (pos == -1) { // record not found
+            return null;
+        }
+        return entries[index[pos]];
+    }
+
+
+    /**
+     * Finds record in hash table based on key
+     * 
+     * @param key
+     *            is the record key
+     * @return position or -1 if not found
+     */
+    public int find(String key) {
+        long code = options.getHashFunction().hash(key);
+        int home = Hash.home(code, index.length, options);
+        int pos = home;
+
+        for (int i = 0; index[pos] != EMPTY && i < index.length; i++) {
+            int entry = index[pos];
+            if (entry >= 0 && hashes[entry] == code && key.equals(
+                entries[entry].getKey())) {
+                return pos;
+            }
+            pos = Hash.next(home, i, index.length, options);
+        }
+        return -1; // Key not found
+    }
+
+
+    /**
+     * Inserts a record into the hash
+     * 
+     * @param record
+     *            is the record to be inserted
+     */
+    public void insert(Record record) {
+        findOrInsert(record.getKey(), key -> record);
+    }
+
+
+    /**
+     * Returns the record stored under key, inserting the one made by factory
+     * if the key is not there yet. A new record goes in the first deleted or
+     * empty slot of its probe sequence, the same slot Hash would use, and at
+     * the end of the entries.
+     * 
+     * @param key
+     *            is the record key
+     * @param factory
+     *            makes the record to insert when the key is missing
+     * @return the existing record or the newly inserted record
+     */
+    public Record findOrInsert(String key, Function<String, Record> factory) {
+        long code = options.getHashFunction().hash(key);
+        int home = Hash.home(code, index.length, options);
+        int pos = home;
+        int free = -1; // first deleted slot seen on the way
+
+        for (int i = 0; index[pos] != EMPTY && i < index.length; i++) {
+            int entry = index[pos];
+            if (entry == DELETED) {
+                if (free == -1) {
+                    free = pos;
+                }
+            }
+            else if (hashes[entry] == code && key.equals(entries[entry]
+                .getKey())) {
+                return entries[entry];
+            }
+            pos = Hash.next(home, i, index.length, options);
+        }
+        if (free == -1 && index[pos] == EMPTY) {
+            free = pos;
+        }
+
+        Record record = factory.apply(key);
+        if (needsGrowth()) {
+            rehash();
+            Hash.announceGrowth(record.getType());
+            free = -1;
+        }
+        while (free == -1) {
+            free = freeSlot(code);
+            if (free == -1) { // probing never reaches a free slot
+                if (index.length >= Hash.maxLength(options)) {
+                    throw new IllegalStateException(
+                        "hash table is full at its maximum capacity");
+                }
+                rehash();
+                Hash.announceGrowth(record.getType());
+            }
+        }
+        index[free] = append(record, code, free);
+        numberOfRecords++;
+        return record;
+    }
+
+
+    /**
+     * Adds a record at the end of the entries, first closing up the holes
+     * or growing the entries if they are full
+     * 
+     * @param record
+     *            is the record
+     * @param code
+     *            is the folded key
+     * @param pos
+     *            is the slot the record goes in
+     * @return the place of the record in the entries
+     */
+    private int append(Record record, long code, int pos) {
+        if (used == entries.length && numberOfRecords <= used / 2) {
+            closeHoles();
+        }
+        if (used == entries.length) {
+            entries = Arrays.copyOf(entries, entries.length * 2);
+            hashes = Arrays.copyOf(hashes, entries.length);
+            slots = Arrays.copyOf(slots, entries.length);
+        }
+        entries[used] = record;
+        hashes[used] = code;
+        slots[used] = pos;
+        return used++;
+    }
+
+
+    /**
+     * Moves the records down over the holes left by removes, keeping their
+     * order, and points the index at their new places. The slots of holes
+     * that are still deleted go to the tombstones for print.
+     */
+    private void closeHoles() {
+        int[] moved = new int[used];
+        int next = 0;
+        int[] kept = Arrays.copyOf(tombstones, tombstoneCount + used);
+        int count = tombstoneCount;
+        for (int e = 0; e < used; e++) {
+            if (entries[e] != null) {
+                entries[next] = entries[e];
+                hashes[next] = hashes[e];
+                slots[next] = slots[e];
+                moved[e] = next++;
+            }
+            else if (slots[e] != NO_SLOT) {
+                kept[count++] = slots[e];
+            }
+        }
+        Arrays.sort(kept, 0, count);
+        tombstoneCount = 0;
+        for (int k = 0; k < count; k++) { // the ones still deleted, once
+            if (index[kept[k]] == DELETED && (tombstoneCount == 0
+                || kept[k] != kept[tombstoneCount - 1])) {
+                kept[tombstoneCount++] = kept[k];
+            }
+        }
+        tombstones = Arrays.copyOf(kept, tombstoneCount);
+        Arrays.fill(entries, next, used, null);
+        used = next;
+        for (int pos = 0; pos < index.length; pos++) {
+            if (index[pos] >= 0) {
+                index[pos] = moved[index[pos]];
+            }
+        }
+    }
+
+
+    /**
+     * Grows the table once, to the length that inserting records one at a
+     * time would reach, so that it holds count records without growing
+     * again. The entries are made big enough too. Prints nothing and never
+     * shrinks the table.
+     * 
+     * @param count
+     *            is the number of records the table should hold
+     */
+    public void reserve(int count) {
+        int length = Hash.reservedLength(index.length, count, options);
+        if (length > index.length) {
+            rehash(length);
+        }
+        int room = count - numberOfRecords + used;
+        if (room > entries.length) {
+            entries = Arrays.copyOf(entries, room);
+            hashes = Arrays.copyOf(hashes, room);
+            slots = Arrays.copyOf(slots, room);
+        }
+    }
+
+
+    /**
+     * Checks if one more record would put the table over its load factor
+     * 
+     * @return true if the table should grow before the next insert
+     */
+    private boolean needsGrowth() {
+        return numberOfRecords + 1 > index.length * options.getLoadFactor()
+            && index.length < Hash.maxLength(options);
+    }
+
+
+    /**
+     * Finds the first deleted or empty slot of a probe sequence
+     * 
+     * @param code
+     *            is the folded key
+     * @return the slot, or -1 if probing never reaches one
+     */
+    private int freeSlot(long code) {
+        int home = Hash.home(code, index.length, options);
+        int pos = home;
+        for (int i = 0; index[pos] >= 0; i++) {
+            if (i == index.length) {
+                return -1;
+            }
+            pos = Hash.next(home, i, index.length, options);
+        }
+        return pos;
+    }
+
+
+    /**
+     * Grows the index and puts every record back in it, trying bigger
+     * lengths if some record cannot reach a free slot
+     */
+    private void rehash() {
+        rehash(Hash.grownLength(index.length, options));
+    }
+
+
+    /**
+     * Puts every record in an index of the given length, or the next bigger
+     * one some record cannot reach a free slot in
+     * 
+     * @param length
+     *            is the length to try first
+     */
+    private void rehash(int length) {
+        while (!resize(length)) {
+            if (length >= Hash.maxLength(options)) {
+                throw new IllegalStateException(
+                    "hash table is full at its maximum capacity");
+            }
+            length = Hash.grownLength(length, options);
+        }
+    }
+
+
+    /**
+     * Makes a new index of the given length and places every record in it,
+     * in the order of the old slots as Hash does. Keeps the old index if
+     * some record cannot reach a free slot. The entries do not move.
+     * 
+     * @param length
+     *            is the new table length
+     * @return true if the table now has the new length
+     */
+    private boolean resize(int length) {
+        int[] oldIndex = index;
+        index = emptyIndex(length);
+        for (int j = 0; j < oldIndex.length; j++) {
+            if (oldIndex[j] >= 0) {
+                int pos = freeSlot(hashes[oldIndex[j]]);
+                if (pos == -1) {
+                    index = oldIndex;
+                    return false;
+                }
+                index[pos] = oldIndex[j];
+            }
+        }
+        Arrays.fill(slots, 0, used, NO_SLOT); // no tombstones are left
+        tombstones = new int[0];
+        tombstoneCount = 0;
+        for (int pos = 0; pos < length; pos++) {
+            if (index[pos] >= 0) {
+                slots[index[pos]] = pos;
+            }
+        }
+        return true;
+    }
+
+
+    /**
+     * Removes record from hash, leaving a deleted slot and a hole in the
+     * entries
+     * 
+     * @param key
+     *            from record
+     */
+    public void remove(String key) {
+        int pos = find(key);
+        if (pos == -1) {
+            return;
+        }
+        entries[index[pos]] = null;
+        index[pos] = DELETED;
+        numberOfRecords--;
+
+        if (numberOfRecords < index.length * options.getMinLoadFactor()
+            && index.length > minLength) {
+            int length = Hash.shrunkLength(index.length, minLength, options);
+            if (length < index.length && numberOfRecords <= length * options
+                .getLoadFactor() / 2) {
+                resize(length);
+            }
+        }
+    }
+
+
+    /**
+     * Calls action once for every record in the table, in the order they
+     * were inserted
+     * 
+     * @param action
+     *            is what to do with each record
+     */
+    public void forEachRecord(Consumer<Record> action) {
+        for (int e = 0; e < used; e++) {
+            if (entries[e] != null) {
+                action.accept(entries[e]);
+            }
+        }
+    }
+
+
+    /**
+     * Gives every record a new node index, after the graph was compacted
+     * 
+     * @param map
+     *            is the new index for each old index
+     */
+    public void renumberNodes(int[] map) {
+        forEachRecord(record -> record.setIndex(map[record.getIndex()]));
+    }
+
+
+    /**
+     * Prints hash table contents by slot, as Hash does, sorting the entries
+     * and tombstone holes by slot instead of walking the whole index
+     */
+    public void print() {
+        int[] printed = Arrays.copyOf(tombstones, tombstoneCount + used);
+        int count = tombstoneCount;
+        for (int e = 0; e < used; e++) {
+            if (slots[e] != NO_SLOT && (entries[e] != null
+                || index[slots[e]] == DELETED)) {
+                printed[count++] = slots[e];
+            }
+        }
+        Arrays.sort(printed, 0, count);
+        for (int k = 0; k < count; k++) {
+            int i = printed[k];
+            if (k > 0 && i == printed[k - 1]) {
+                continue; // two holes left the same deleted slot
+            }
+            if (index[i] >= 0) {
+                System.out.println(i + ": |" + entries[index[i]].getKey()
+                    .trim() + "|");
+            }
+            else if (index[i] == DELETED) { // a listed slot used again
+                System.out.println(i + ": TOMBSTONE");
+            }
+        }
+    }
+
+
+    /**
+     * Counts the slots find looks at for a key
+     * 
+     * @param key
+     *            is the record key
+     * @return number of slots looked at
+     */
+    public int probes(String key) {
+        long code = options.getHashFunction().hash(key);
+        int home = Hash.home(code, index.length, options);
+        int pos = home;
+        int count = 1;
+
+        for (int i = 0; index[pos] != EMPTY && i < index.length; i++) {
+            int entry = index[pos];
+            if (entry >= 0 && hashes[entry] == code && key.equals(
+                entries[entry].getKey())) {
+                return count;
+            }
+            pos = Hash.next(home, i, index.length, options);
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,219 @@
+// On my honor:
+// - I have not used source code obtained from another current or
+// former student, or any other unauthorized source, either
+// modified or unmodified.
+//
+// - All source code and documentation used in my program is
+// either my original work, or was derived by me from the
+// source code published in the textbook for this course.
+//
+// - I have not discussed coding details about this project with
+// anyone other than my partner (in the case of a joint
+// submission), instructor, ACM/UPE tutors or the TAs assigned
+// to this course. I understand that I may discuss the concepts
+// of this program with other students, and that another student
+// may help me debug my program so long as neither of us writes
+// anything during the discussion or modifies any computer file
+// during the discussion. I have violated neither the spirit nor
+// letter of this restriction.
+import student.TestCase;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Test class for methods in DenseHash class
+ * 
+ * @author Shruti & Lakshitha
+ * @version 9/19/24
+ */
+public class DenseHashTest extends TestCase {
+    private DenseHash hash;
+
+    /**
+     * Sets up the tests that follow
+     */
+    public void setUp() {
+        hash = new DenseHash(10, new HashOptions());
+    }
+
+
+    /**
+     * Tests insert, find and getRecord
+     */
+    public void testInsertFind() {
+        Record record = new Record("hokies", 7, RecordType.ARTIST);
+        hash.insert(record);
+        assertEquals(Hash.h("hokies", 10), hash.find("hokies"));
+        assertSame(record, hash.getRecord("hokies"));
+        assertNull(hash.getRecord("notThere"));
+        assertEquals(1, hash.probes("hokies"));
+
+        hash.insert(new Record("hokies", 8, RecordType.ARTIST));
+        assertEquals(1, hash.getNumberOfRecords());
+        assertSame(record, hash.findOrInsert("hokies", key -> null));
+    }
+
+
+    /**
+     * Tests the slots and printout match Hash through inserts, removes and
+     * growth
+     */
+    public void testMatchesHash() {
+        HashOptions options = new HashOptions();
+        options.setMinLoadFactor(0.1);
+        Hash records = new Hash(10, options);
+        hash = new DenseHash(10, options);
+        Random random = new Random(5);
+        for (int i = 0; i < 2000; i++) {
+            String key = "song" + random.nextInt(300);
+            if (random.nextInt(3) == 0) {
+                records.remove(key);
+                hash.remove(key);
+            }
+            else {
+                Record record = new Record(key, i, RecordType.SONG);
+                records.insert(record);
+                hash.insert(record);
+            }
+            assertEquals(records.find(key), hash.find(key));
+        }
+        assertEquals(records.getNumberOfRecords(), hash.getNumberOfRecords());
+        systemOut().clearHistory();
+        records.print();
+        String expected = systemOut().getHistory();
+        systemOut().clearHistory();
+        hash.print();
+        assertEquals(expected, systemOut().getHistory());
+    }
+
+
+    /**
+     * Tests records are visited in insertion order and removed records
+     * leave holes that are closed up once the entries fill
+     */
+    public void testEntries() {
+        hash = new DenseHash(100, new HashOptions());
+        for (int i = 0; i < 50; i++) {
+            hash.insert(new Record("key" + i, i, RecordType.SONG));
+        }
+        for (int i = 0; i < 40; i++) {
+            hash.remove("key" + i);
+        }
+        assertEquals(50, hash.getUsed());
+        hash.insert(new Record("late", 50, RecordType.SONG));
+        assertEquals(11, hash.getUsed());
+
+        List<Integer> order = new ArrayList<>();
+        hash.forEachRecord(record -> order.add(record.getIndex()));
+        assertEquals(11, order.size());
+        for (int i = 0; i < 11; i++) {
+            assertEquals(40 + i, (int)order.get(i));
+        }
+        assertEquals(40, hash.getRecord("key40").getIndex());
+        assertEquals(50, hash.getRecord("late").getIndex());
+
+        hash.renumberNodes(new int[51]);
+        assertEquals(0, hash.getRecord("late").getIndex());
+    }
+
+
+    /**
+     * Tests growing prints the same message as Hash and keeps every record
+     */
+    public void testGrowth() {
+        for (int i = 0; i < 5; i++) {
+            hash.insert(new Record("artist" + i, i, RecordType.ARTIST));
+        }
+        assertEquals(10, hash.getLength());
+        systemOut().clearHistory();
+        hash.insert(new Record("artist5", 5, RecordType.ARTIST));
+        assertEquals("Artist hash table size doubled.", systemOut()
+            .getHistory().trim());
+        assertEquals(20, hash.getLength());
+        for (int i = 0; i < 6; i++) {
+            assertEquals(i, hash.getRecord("artist" + i).getIndex());
+        }
+    }
+
+
+    /**
+     * Tests print, which goes by the slots kept in the entries, matches Hash
+     * all along, as holes close and deleted slots are used again
+     */
+    public void testPrintMatchesHash() {
+        for (int seed = 0; seed < 20; seed++) {
+            HashOptions options = new HashOptions();
+            options.setMinLoadFactor(seed % 2 == 0 ? 0 : 0.1);
+            Hash records = new Hash(10, options);
+            hash = new DenseHash(10, options);
+            Random random = new Random(seed);
+            for (int i = 0; i < 600; i++) {
+                String key = "song" + random.nextInt(60);
+                if (random.nextInt(2) == 0) {
+                    records.remove(key);
+                    hash.remove(key);
+                }
+                else {
+                    Record record = new Record(key, i, RecordType.SONG);
+                    records.insert(record);
+                    hash.insert(record);
+                }
+                if (i % 25 == 0) {
+                    systemOut().clearHistory();
+                    records.print();
+                    String expected = systemOut().getHistory();
+                    systemOut().clearHistory();
+                    hash.print();
+                    assertEquals(expected, systemOut().getHistory());
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Tests triangular probing and another hash function
+     */
+    public void testOptions() {
+        HashOptions options = new HashOptions();
+        options.setTriangularProbing(true);
+        options.setHashFunction(new MixHash(1));
+        hash = new DenseHash(10, options);
+        assertEquals(16, hash.getLength());
+        Hash records = new Hash(10, options);
+        for (int i = 0; i < 100; i++) {
+            Record record = new Record("key" + i, i, RecordType.SONG);
+            hash.insert(record);
+            records.insert(record);
+        }
+        for (int i = 0; i < 100; i++) {
+            assertEquals(records.find("key" + i), hash.find("key" + i));
+        }
+        systemOut().clearHistory();
+        records.print();
+        String expected = systemOut().getHistory();
+        systemOut().clearHistory();
+        hash.print();
+        assertEquals(expected, systemOut().getHistory());
+    }
+
+
+    /**
+     * Tests reserve makes room for the records in one step
+     */
+    public void testReserve() {
+        hash = new DenseHash(10, new HashOptions());
+        hash.reserve(100);
+        int length = hash.getLength();
+        assertTrue(length > 10);
+        systemOut().clearHistory();
+        for (int i = 0; i < 100; i++) {
+            hash.insert(new Record("song" + i, i, RecordType.SONG));
+        }
+        assertEquals("", systemOut().getHistory());
+        assertEquals(length, hash.getLength());
+        assertEquals(100, hash.getNumberOfRecords());
+        assertEquals(99, hash.getRecord("song99").getIndex());
+    }
+}
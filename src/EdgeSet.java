@@ -0,0 +1,212 @@
+// On my honor:
+// - I have not used source code obtained from another current or
+// former student, or any other unauthorized source, either
+// modified or unmodified.
+//
+// - All source code and documentation used in my program is
+// either my original work, or was derived by me from the
+// source code published in the textbook for this course.
+//
+// - I have not discussed coding details about this project with
+// anyone other than my partner (in the case of a joint
+// submission), instructor, ACM/UPE tutors or the TAs assigned
+// to this course. I understand that I may discuss the concepts
+// of this program with other students, and that another student
+// may help me debug my program so long as neither of us writes
+// anything during the discussion or modifies any computer file
+// during the discussion. I have violated neither the spirit nor
+// letter of this restriction.
+import java.util.Arrays;
+
+/**
+ * Open addressing set of edges, each a long made from its two node indexes
+ * 
+ * Keys are kept in a long array with linear probing, so no object is made
+ * per edge. The table doubles once it is half full, and a removed key is
+ * filled in by shifting later keys of its run back, so there are no
+ * tombstones. Each key also has a count, as a graph can hold the same
+ * edge more than once, and the key stays until its last copy is removed.
+ *
+ * @author Shruti & Lakshitha
+ * @version 9/19/24
+ */
+public class EdgeSet {
+
+    /**
+     * Marks an empty slot; no key made from two indexes is negative
+     */
+    private static final long EMPTY = -1L;
+
+    /**
+     * private fields
+     */
+    private long[] keys; // key in each slot, or EMPTY
+    private int[] counts; // copies of the key in each slot
+    private int size; // number of different keys
+
+    /**
+     * Constructor method
+     * 
+     * @param capacity
+     *            is the number of keys to make room for
+     */
+    public EdgeSet(int capacity) {
+        int length = 16;
+        while (length < capacity * 2L && length < (1 << 30)) {
+            length *= 2;
+        }
+        keys = new long[length];
+        counts = new int[length];
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+    }
+
+
+    /**
+     * Makes the key of the edge from one node to another
+     * 
+     * @param from
+     *            is the index of the first node, not negative
+     * @param to
+     *            is the index of the second node
+     * @return the key
+     */
+    public static long key(int from, int to) {
+        return ((long)from << 32) | (to & 0xFFFFFFFFL);
+    }
+
+
+    /**
+     * Get method for the number of different keys
+     * 
+     * @return number of keys
+     */
+    public int getSize() {
+        return size;
+    }
+
+
+    /**
+     * Get method for the number of slots
+     * 
+     * @return length of the table
+     */
+    public int getLength() {
+        return keys.length;
+    }
+
+
+    /**
+     * Finds the slot of a key, or the empty slot that ends its run
+     * 
+     * @param key
+     *            is the key
+     * @return the slot
+     */
+    private int slotOf(long key) {
+        int mask = keys.length - 1;
+        int pos = (int)MixHash.mix(key) & mask;
+        while (keys[pos] != EMPTY && keys[pos] != key) {
+            pos = (pos + 1) & mask;
+        }
+        return pos;
+    }
+
+
+    /**
+     * Checks if a key is in the set
+     * 
+     * @param key
+     *            is the key
+     * @return true if at least one copy is in the set
+     */
+    public boolean contains(long key) {
+        return keys[slotOf(key)] == key;
+    }
+
+
+    /**
+     * Gives the number of copies of a key
+     * 
+     * @param key
+     *            is the key
+     * @return the count, 0 if the key is not there
+     */
+    public int count(long key) {
+        int pos = slotOf(key);
+        return keys[pos] == key ? counts[pos] : 0;
+    }
+
+
+    /**
+     * Adds a copy of a key
+     * 
+     * @param key
+     *            is the key, not negative
+     */
+    public void add(long key) {
+        int pos = slotOf(key);
+        if (keys[pos] == key) {
+            counts[pos]++;
+            return;
+        }
+        if (size + 1 > keys.length / 2) {
+            grow();
+            pos = slotOf(key);
+        }
+        keys[pos] = key;
+        counts[pos] = 1;
+        size++;
+    }
+
+
+    /**
+     * Removes a copy of a key
+     * 
+     * @param key
+     *            is the key
+     */
+    public void remove(long key) {
+        int pos = slotOf(key);
+        if (keys[pos] != key) {
+            return;
+        }
+        if (--counts[pos] > 0) {
+            return;
+        }
+        size--;
+        int mask = keys.length - 1;
+        int hole = pos;
+        for (int next = (hole + 1) & mask; keys[next] != EMPTY; next = (next
+            + 1) & mask) {
+            int home = (int)MixHash.mix(keys[next]) & mask;
+            // move the key back unless its home lies after the hole
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                counts[hole] = counts[next];
+                hole = next;
+            }
+        }
+        keys[hole] = EMPTY;
+        counts[hole] = 0;
+    }
+
+
+    /**
+     * Doubles the table and puts every key back
+     */
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldCounts = counts;
+        keys = new long[oldKeys.length * 2];
+        counts = new int[keys.length];
+        Arrays.fill(keys, EMPTY);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int pos = slotOf(oldKeys[i]);
+                keys[pos] = oldKeys[i];
+                counts[pos] = oldCounts[i];
+            }
+        }
+    }
+}
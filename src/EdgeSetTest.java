@@ -0,0 +1,117 @@
+// On my honor:
+// - I have not used source code obtained from another current or
+// former student, or any other unauthorized source, either
+// modified or unmodified.
+//
+// - All source code and documentation used in my program is
+// either my original work, or was derived by me from the
+// source code published in the textbook for this course.
+//
+// - I have not discussed coding details about this project with
+// anyone other than my partner (in the case of a joint
+// submission), instructor, ACM/UPE tutors or the TAs assigned
+// to this course. I understand that I may discuss the concepts
+// of this program with other students, and that another student
+// may help me debug my program so long as neither of us writes
+// anything during the discussion or modifies any computer file
+// during the discussion. I have violated neither the spirit nor
+// letter of this restriction.
+import student.TestCase;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Test class for EdgeSet
+ * 
+ * @author Shruti & Lakshitha
+ * @version 9/19/24
+ */
+public class EdgeSetTest extends TestCase {
+    private EdgeSet set;
+
+    /**
+     * Sets up the tests that follow
+     */
+    public void setUp() {
+        set = new EdgeSet(4);
+    }
+
+
+    /**
+     * Tests key keeps both indexes apart
+     */
+    public void testKey() {
+        assertEquals(0x100000002L, EdgeSet.key(1, 2));
+        assertFalse(EdgeSet.key(1, 2) == EdgeSet.key(2, 1));
+        assertTrue(EdgeSet.key(0, -1) >= 0);
+    }
+
+
+    /**
+     * Tests copies of a key are counted and removed one at a time
+     */
+    public void testAddRemove() {
+        long key = EdgeSet.key(3, 7);
+        assertFalse(set.contains(key));
+        set.add(key);
+        set.add(key);
+        assertTrue(set.contains(key));
+        assertEquals(2, set.count(key));
+        assertEquals(1, set.getSize());
+        set.remove(key);
+        assertTrue(set.contains(key));
+        set.remove(key);
+        assertFalse(set.contains(key));
+        assertEquals(0, set.count(key));
+        assertEquals(0, set.getSize());
+        set.remove(key);
+        assertEquals(0, set.getSize());
+    }
+
+
+    /**
+     * Tests the set doubles once half full
+     */
+    public void testGrowth() {
+        assertEquals(16, set.getLength());
+        for (int i = 0; i < 9; i++) {
+            set.add(EdgeSet.key(i, i));
+        }
+        assertEquals(32, set.getLength());
+        for (int i = 0; i < 9; i++) {
+            assertTrue(set.contains(EdgeSet.key(i, i)));
+        }
+        assertEquals(64, new EdgeSet(20).getLength());
+    }
+
+
+    /**
+     * Tests random adds and removes against a map
+     */
+    public void testRandom() {
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(3114);
+        for (int step = 0; step < 20000; step++) {
+            long key = EdgeSet.key(random.nextInt(40), random.nextInt(40));
+            if (random.nextBoolean()) {
+                set.add(key);
+                expected.merge(key, 1, Integer::sum);
+            }
+            else {
+                set.remove(key);
+                expected.computeIfPresent(key, (k, v) -> v == 1
+                    ? null
+                    : v - 1);
+            }
+        }
+        assertEquals(expected.size(), set.getSize());
+        for (int a = 0; a < 40; a++) {
+            for (int b = 0; b < 40; b++) {
+                long key = EdgeSet.key(a, b);
+                assertEquals(expected.getOrDefault(key, 0).intValue(), set
+                    .count(key));
+            }
+        }
+    }
+}
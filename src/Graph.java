@@ -16,19 +16,61 @@
 // anything during the discussion or modifies any computer file
 // during the discussion. I have violated neither the spirit nor
 // letter of this restriction.
+import java.util.Arrays;
+
 /**
  * /**
  * Graph class that represents the adjacency list.
  * 
+ * The neighbors of each node are kept in a growable int array, so a scan
+ * over them reads memory in order and no object is made per edge. An edge
+ * is stored once in the array of each end, and each copy also keeps the
+ * position of the other one, its twin. Removing a node takes each twin
+ * out by position, so it costs the degree of the node rather than a
+ * search through the list of every neighbor.
+ * 
+ * The union-find over the nodes is kept up to date as nodes and edges are
+ * added, along with the number of components and the size of the largest,
+ * so printing the graph after inserts only does no work. A histogram of
+ * component sizes gives the largest size again when a component splits.
+ * 
+ * Removing a node can split its component, which union-find cannot undo.
+ * The removed node stays in the union-find until the next query, so the
+ * other nodes of its component still find their root through it, and its
+ * neighbors are kept as seeds. The query then settles the removals: it
+ * takes the components holding removed nodes out of the counts and finds
+ * what is left of them by a breadth first search from the seeds, leaving
+ * the rest of the union-find as it is. Every node left in such a component
+ * is reached, as its path to a removed node passes through a neighbor of
+ * one. Removing a single edge, re-creating a node that still had edges,
+ * and compacting still mark the whole union-find stale, and the next query
+ * builds it again from the edges.
+ * 
+ * With the edge index on, every entry is also kept in an EdgeSet, so
+ * hasEdge is one lookup however many neighbors the node has.
+ * 
  * @author shrut
  * @version Sep 19, 2024
  */
 public class Graph {
     // ~ Fields ................................................................
     /*
-     * makes a double linked list of nodes
+     * neighbors of each node, null for an index with no node
+     */
+    private int[][] neighbors;
+    /*
+     * position of the twin of each neighbor entry in the array of that
+     * neighbor, NO_TWIN once the twin was removed on its own
+     */
+    private int[][] twins;
+    /*
+     * every neighbor entry as a key, or null without the edge index
+     */
+    private EdgeSet edges;
+    /*
+     * number of neighbors in use at the front of each neighbor array
      */
-    private DoubleLL<Node>[] vertex;
+    private int[] degree;
     /*
      * makes a array of intergers
      */
@@ -45,10 +87,78 @@ public class Graph {
      * number of the connected components
      */
     private int connectedComponents;
+    /*
+     * number of nodes in the largest connected component
+     */
+    private int largestComponent;
+    /*
+     * true once a change left the union-find out of step with the edges
+     */
+    private boolean stale;
+    /*
+     * number of components of each size, counting removed nodes not yet
+     * settled in the size of their component
+     */
+    private int[] sizes;
+    /*
+     * nodes removed since the union-find was last settled
+     */
+    private int[] removed;
+    /*
+     * number of nodes in removed
+     */
+    private int removedCount;
+    /*
+     * former neighbors of the nodes in removed
+     */
+    private int[] seeds;
+    /*
+     * number of nodes in seeds
+     */
+    private int seedCount;
+    /*
+     * number of neighbor entries whose twin is gone. settle only walks the
+     * entries a node holds, so while any are left removals rebuild instead
+     */
+    private int halves;
+    /*
+     * mark of the last search that reached each node
+     */
+    private int[] seen;
+    /*
+     * mark of the current search
+     */
+    private int mark;
     /*
      * array of the weights
      */
     private int[] weights;
+    /*
+     * fraction of the size in use before expanding
+     */
+    private double loadFactor;
+    /*
+     * how many times bigger an expanded graph is
+     */
+    private double growthFactor;
+    /*
+     * largest size the graph may expand to
+     */
+    private int maxCapacity;
+    /*
+     * size the graph started with, it never compacts below this
+     */
+    private int initialSize;
+
+    /*
+     * neighbor array of nodes that have none yet, shared as it is never
+     * written to
+     */
+    private static final int[] NO_NEIGHBORS = new int[0];
+    /*
+     * twin position of an entry whose twin was removed by removeEdge
+     */
+    private static final int NO_TWIN = -1;
 
     // ~ Constructors ..........................................................
     /**
@@ -57,12 +167,38 @@ public class Graph {
      * @param maxSize
      *            is the maximum size of the graph
      */
-    @SuppressWarnings("unchecked")
     public Graph(int maxSize) {
+        this(maxSize, 0.5, 2.0, Integer.MAX_VALUE);
+    }
+
+
+    /**
+     * Create a new Graph object with a growth policy.
+     * 
+     * @param maxSize
+     *            is the maximum size of the graph
+     * @param loadFactor
+     *            is the fraction of the size in use before expanding
+     * @param growthFactor
+     *            is how many times bigger an expanded graph is
+     * @param maxCapacity
+     *            is the largest size the graph may expand to
+     */
+    public Graph(
+        int maxSize,
+        double loadFactor,
+        double growthFactor,
+        int maxCapacity) {
+        this.loadFactor = loadFactor;
+        this.growthFactor = growthFactor;
+        this.maxCapacity = maxCapacity;
+        this.initialSize = maxSize;
         this.setNumberOfNodes(0);
         this.maxSize = maxSize;
         this.setNumberOfNodes(0);
-        this.setVertex(new DoubleLL[maxSize]);
+        neighbors = new int[maxSize][];
+        twins = new int[maxSize][];
+        degree = new int[maxSize];
 
         array = new int[maxSize];
         weights = new int[maxSize];
@@ -73,6 +209,11 @@ public class Graph {
         }
 
         this.connectedComponents = 0;
+        this.largestComponent = 0;
+        this.stale = false;
+        this.sizes = new int[maxSize + 1];
+        this.removed = new int[4];
+        this.seeds = new int[4];
 
     }
 
@@ -95,10 +236,22 @@ public class Graph {
      * @return the number of connected components
      */
     public int getConnectedComponents() {
+        refreshComponents();
         return connectedComponents;
     }
 
 
+    /**
+     * Get method for the size of the largest connected component
+     * 
+     * @return the number of nodes in the largest component
+     */
+    public int getLargestComponent() {
+        refreshComponents();
+        return largestComponent;
+    }
+
+
     /**
      * Set method for the number of nodes
      * 
@@ -111,23 +264,96 @@ public class Graph {
 
 
     /**
-     * Returns the list at a position of the vertex adjacency list
+     * Gets the number of node indexes the graph has room for
      * 
-     * @return the list
+     * @return the size
      */
-    public DoubleLL<Node>[] getVertex() {
-        return vertex;
+    public int getSize() {
+        return maxSize;
     }
 
 
     /**
-     * Set a position with an array
+     * Checks if there is a node at an index
      * 
-     * @param vertex
-     *            is what it is set to
+     * @param index
+     *            is the index of the node
+     * @return true if the node is in the graph
      */
-    public void setVertex(DoubleLL<Node>[] vertex) {
-        this.vertex = vertex;
+    public boolean hasNode(int index) {
+        return index >= 0 && index < maxSize && neighbors[index] != null;
+    }
+
+
+    /**
+     * Gets the number of neighbors of a node
+     * 
+     * @param index
+     *            is the index of the node
+     * @return the number of neighbors, 0 if there is no node
+     */
+    public int getDegree(int index) {
+        return hasNode(index) ? degree[index] : 0;
+    }
+
+
+    /**
+     * Checks if the edge index is on
+     * 
+     * @return true if hasEdge looks edges up in the index
+     */
+    public boolean isEdgeIndex() {
+        return edges != null;
+    }
+
+
+    /**
+     * Turns the edge index on or off. When on, every neighbor entry is also
+     * kept in a set keyed by both node indexes, so hasEdge takes constant
+     * time, at the cost of about 24 more bytes per entry.
+     * 
+     * @param edgeIndex
+     *            true to keep the index
+     */
+    public void setEdgeIndex(boolean edgeIndex) {
+        if (!edgeIndex) {
+            edges = null;
+        }
+        else if (edges == null) {
+            indexEdges();
+        }
+    }
+
+
+    /**
+     * Makes the edge index from the neighbor arrays
+     */
+    private void indexEdges() {
+        int count = 0;
+        for (int i = 0; i < maxSize; i++) {
+            count += degree[i];
+        }
+        edges = new EdgeSet(count);
+        for (int i = 0; i < maxSize; i++) {
+            for (int j = 0; j < degree[i]; j++) {
+                edges.add(EdgeSet.key(i, neighbors[i][j]));
+            }
+        }
+    }
+
+
+    /**
+     * Gets the neighbors of a node
+     * 
+     * @param index
+     *            is the index of the node
+     * @return a copy of the neighbors, or null if there is no node
+     */
+    public int[] getNeighbors(int index) {
+        if (!hasNode(index)) {
+            return null;
+        }
+        return Arrays.copyOf(neighbors[index], degree[index]);
     }
 
 
@@ -138,14 +364,51 @@ public class Graph {
      *            is the node to be added
      */
     public void newNode(Node node) {
-        if (getNumberOfNodes() >= maxSize / 2) {
+        newNode(node.getIndex());
+    }
+
+
+    /**
+     * adds a new node to the graph by its index
+     * 
+     * @param index
+     *            is the index of the node to be added
+     */
+    public void newNode(int index) {
+        if (getNumberOfNodes() >= (int)(maxSize * loadFactor)
+            && maxSize < maxCapacity) {
             expand();
         }
-        DoubleLL<Node> currentList = new DoubleLL<>();
-
-        getVertex()[node.getIndex()] = currentList; // node of the graph should
-                                                    // be the same as the one in
-                                                    // the adjacency list
+        while (index >= maxSize) { // index numbers keep growing
+            if (maxSize >= maxCapacity) {
+                throw new IllegalStateException(
+                    "graph is full at its maximum capacity");
+            }
+            expand();
+        }
+        if (neighbors[index] != null) { // its old edges are dropped
+            for (int i = 0; i < degree[index]; i++) {
+                int neighbor = neighbors[index][i];
+                int twin = twins[index][i];
+                if (twin == NO_TWIN) {
+                    halves--;
+                }
+                else if (neighbor != index) {
+                    twins[neighbor][twin] = NO_TWIN; // it keeps its half
+                    halves++;
+                }
+                if (edges != null) {
+                    edges.remove(EdgeSet.key(index, neighbor));
+                }
+            }
+            stale = true;
+        }
+        else {
+            addComponent(index);
+        }
+        neighbors[index] = NO_NEIGHBORS;
+        twins[index] = NO_NEIGHBORS;
+        degree[index] = 0;
         setNumberOfNodes(getNumberOfNodes() + 1);
 
     }
@@ -160,17 +423,117 @@ public class Graph {
      *            is the song node
      */
     public void addEdge(int artistNode, int songNode) {
-        if (vertex[artistNode] == null) {
-            vertex[artistNode] = new DoubleLL<Node>();
+        if (neighbors[artistNode] == null) {
+            neighbors[artistNode] = NO_NEIGHBORS;
+            twins[artistNode] = NO_NEIGHBORS;
+            addComponent(artistNode);
         }
-        if (vertex[songNode] == null) {
-            vertex[songNode] = new DoubleLL<Node>();
+        if (neighbors[songNode] == null) {
+            neighbors[songNode] = NO_NEIGHBORS;
+            twins[songNode] = NO_NEIGHBORS;
+            addComponent(songNode);
         }
         if (!hasEdge(artistNode, songNode)) {
-            vertex[artistNode].insert(songNode);
-            vertex[songNode].insert(artistNode);
+            int artistPos = link(artistNode, songNode);
+            int songPos = link(songNode, artistNode);
+            twins[artistNode][artistPos] = songPos;
+            twins[songNode][songPos] = artistPos;
+            if (!stale) {
+                union(artistNode, songNode);
+            }
+        }
+
+    }
+
+
+    /**
+     * Makes a new node a component of its own in the union-find
+     * 
+     * @param index
+     *            is the index of the new node
+     */
+    private void addComponent(int index) {
+        if (stale) {
+            return; // the next rebuild counts it
         }
+        if (removedCount > 0 && (array[index] != -1 || weights[index] > 0)) {
+            settle(); // the index still holds a removed node
+        }
+        array[index] = -1;
+        weights[index] = 1;
+        sizes[1]++;
+        connectedComponents++;
+        largestComponent = Math.max(largestComponent, 1);
+    }
+
+
+    /**
+     * Appends a node to a growable list
+     * 
+     * @param list
+     *            is the list
+     * @param count
+     *            is the number of nodes in it
+     * @param node
+     *            is the node to append
+     * @return the list, or a bigger copy of it
+     */
+    private static int[] append(int[] list, int count, int node) {
+        if (count == list.length) {
+            list = Arrays.copyOf(list, count * 2);
+        }
+        list[count] = node;
+        return list;
+    }
+
+
+    /**
+     * Appends a neighbor to a node, doubling its arrays when full. The
+     * caller sets the twin position.
+     * 
+     * @param from
+     *            is the node
+     * @param to
+     *            is the new neighbor
+     * @return the position of the new entry
+     */
+    private int link(int from, int to) {
+        if (degree[from] == neighbors[from].length) {
+            int length = Math.max(4, degree[from] * 2);
+            neighbors[from] = Arrays.copyOf(neighbors[from], length);
+            twins[from] = Arrays.copyOf(twins[from], length);
+        }
+        neighbors[from][degree[from]] = to;
+        if (edges != null) {
+            edges.add(EdgeSet.key(from, to));
+        }
+        return degree[from]++;
+    }
+
 
+    /**
+     * Takes the entry at a position out of a node by moving the last entry
+     * into its place, and tells the twin of the moved entry where it went
+     * 
+     * @param from
+     *            is the node
+     * @param pos
+     *            is the position of the entry to take out
+     */
+    private void unlinkAt(int from, int pos) {
+        if (edges != null) {
+            edges.remove(EdgeSet.key(from, neighbors[from][pos]));
+        }
+        int last = --degree[from];
+        if (pos != last) {
+            int moved = neighbors[from][last];
+            int twin = twins[from][last];
+            neighbors[from][pos] = moved;
+            twins[from][pos] = twin;
+            if (twin != NO_TWIN) {
+                twins[moved][twin] = pos;
+            }
+        }
     }
 
 
@@ -184,8 +547,17 @@ public class Graph {
      * @return true or false whether edge exists
      */
     public boolean hasEdge(int artistNode, int songNode) {
-        if (vertex[artistNode] != null) {
-            return vertex[artistNode].contains(songNode);
+        if (edges != null) {
+            return neighbors[artistNode] != null && edges.contains(EdgeSet
+                .key(artistNode, songNode));
+        }
+        if (neighbors[artistNode] != null) {
+            int[] list = neighbors[artistNode];
+            for (int i = 0; i < degree[artistNode]; i++) {
+                if (list[i] == songNode) {
+                    return true;
+                }
+            }
         }
         return false;
     }
@@ -201,8 +573,22 @@ public class Graph {
      */
     public void removeEdge(int src, int dest) {
 
-        if (vertex[src] != null && vertex[dest] != null) {
-            vertex[src].remove(dest);
+        if (neighbors[src] != null && neighbors[dest] != null) {
+            int[] list = neighbors[src];
+            for (int i = 0; i < degree[src]; i++) {
+                if (list[i] == dest) {
+                    if (twins[src][i] != NO_TWIN) { // dest keeps its half
+                        twins[dest][twins[src][i]] = NO_TWIN;
+                        halves++;
+                    }
+                    else {
+                        halves--;
+                    }
+                    unlinkAt(src, i);
+                    stale = true;
+                    return;
+                }
+            }
         }
 
     }
@@ -215,27 +601,58 @@ public class Graph {
      *            is the node removed
      */
     public void removeNode(Node node) {
-        int index = node.getIndex();
-        if (index < 0 || index >= vertex.length || vertex[index] == null) {
+        removeNode(node.getIndex());
+    }
+
+
+    /**
+     * Removes a node from the graph and its edges by its index
+     * 
+     * @param index
+     *            is the index of the node removed
+     */
+    public void removeNode(int index) {
+        if (!hasNode(index)) {
             return;
         }
+        if (halves > 0) { // a node may reach the rest only through a half
+            stale = true;
+        }
 
-        if (vertex[index] != null) {
-            vertex[index].resetCurr();
-            for (int i = 0; i < vertex[index].getSize(); i++) {
-                int toRemove = vertex[index].getNext();
-                removeEdge(toRemove, index);
-
+        // an entry moved within a neighbor's array may have its twin here,
+        // so the twins of this node are read only as they are reached
+        for (int i = 0; i < degree[index]; i++) {
+            int neighbor = neighbors[index][i];
+            int twin = twins[index][i];
+            if (!stale && neighbor != index) {
+                seeds = append(seeds, seedCount++, neighbor);
+            }
+            if (twin == NO_TWIN) {
+                halves--;
+            }
+            else if (neighbor != index) {
+                unlinkAt(neighbor, twin);
+            }
+            if (edges != null) {
+                edges.remove(EdgeSet.key(index, neighbor));
             }
         }
-        vertex[index] = null;
-        array[index] = -1;
+        neighbors[index] = null;
+        twins[index] = null;
+        degree[index] = 0;
         numberOfNodes--;
+        if (stale) {
+            array[index] = -1;
+        }
+        else { // stays in the union-find until its component is settled
+            removed = append(removed, removedCount++, index);
+        }
     }
 
 
     /**
-     * Union method to represent two nodes connecting
+     * Union method to represent two nodes connecting. Joining two components
+     * of nodes lowers the component count and may make a new largest one.
      * 
      * @param a
      *            is one node
@@ -246,6 +663,14 @@ public class Graph {
         int root1 = find(a); // Find root of node a
         int root2 = find(b); // Find root of node b
         if (root1 != root2) { // weighted union
+            if (weights[root1] > 0 && weights[root2] > 0) {
+                connectedComponents--;
+                sizes[weights[root1]]--;
+                sizes[weights[root2]]--;
+                sizes[weights[root1] + weights[root2]]++;
+                largestComponent = Math.max(largestComponent, weights[root1]
+                    + weights[root2]);
+            }
             if (weights[root2] > weights[root1]) {
                 array[root1] = root2;
                 weights[root2] += weights[root1];
@@ -298,85 +723,282 @@ public class Graph {
 
 
     /**
-     * this method doubles the graph
+     * this method grows the graph by the growth factor, up to the maximum
+     * capacity
      */
     public void expand() {
-        int newSize = maxSize * 2; // Double current maxSize
-        @SuppressWarnings("unchecked")
-        DoubleLL<Node>[] newAdjacencyList = new DoubleLL[newSize];
+        expandTo(grownSize(maxSize));
+    }
 
-        // Copy adjacency list to new array
-        for (int i = 0; i < maxSize; i++) {
-            newAdjacencyList[i] = vertex[i];
+
+    /**
+     * Expands the graph once, to the size that adding nodes one at a time
+     * would reach, so that nodes 0 to count - 1 fit without expanding again
+     * 
+     * @param count
+     *            is the number of nodes the graph should hold
+     */
+    public void reserve(int count) {
+        int size = maxSize;
+        while ((count > size || count > 0 && count - 1 >= (int)(size
+            * loadFactor)) && size < maxCapacity) {
+            size = grownSize(size);
         }
+        expandTo(size);
+    }
 
-        setVertex(newAdjacencyList);
 
-        int[] newArray = new int[newSize];
-        int[] newWeights = new int[newSize];
+    /**
+     * Gives the size one expansion grows a graph of the given size to
+     * 
+     * @param size
+     *            is the current size
+     * @return the grown size, at most the maximum capacity
+     */
+    private int grownSize(int size) {
+        long grown = (long)Math.ceil(size * growthFactor);
+        return (int)Math.min(Math.max(grown, size + 1L), Math.max(
+            maxCapacity, size));
+    }
+
+
+    /**
+     * Copies the graph into arrays of a new size
+     * 
+     * @param newSize
+     *            is the new size, not below the current one
+     */
+    private void expandTo(int newSize) {
+        if (newSize == maxSize) { // already at the maximum capacity
+            return;
+        }
+        // Copy adjacency list to new array
+        neighbors = Arrays.copyOf(neighbors, newSize);
+        twins = Arrays.copyOf(twins, newSize);
+        degree = Arrays.copyOf(degree, newSize);
+
+        // the union-find carries over so it stays up to date
+        int[] newArray = Arrays.copyOf(array, newSize);
+        int[] newWeights = Arrays.copyOf(weights, newSize);
 
         for (int i = maxSize; i < newSize; i++) {
             newArray[i] = -1;
-            newWeights[i] = 1;
+            newWeights[i] = 0; // no node yet, as in the constructor
         }
         array = newArray;
         weights = newWeights;
+        sizes = Arrays.copyOf(sizes, newSize + 1);
         maxSize = newSize;
     }
 
 
     /**
-     * Print the graph contents
+     * Tells whether compact is worth its pass over every node: it has to
+     * shrink the arrays, or free at least half of the indexes handed out.
+     * 
+     * @param used
+     *            how many indexes from 0 up have been handed out
+     * @return true if compact would shrink the graph or half of the used
+     *         indexes are free
      */
-    public void printGraph() {
-        unionConnectedNodes();
-        int numberOfComponents = 0;
-        int largestComponent = 0;
-
-        for (int i = 0; i < vertex.length; i++) {
-            if (vertex[i] != null) {
-                if (array[i] == -1) {
-                    numberOfComponents++;
+    public boolean canCompact(int used) {
+        int free = used - numberOfNodes;
+        return compactedSize(numberOfNodes) < maxSize
+            || free > 0 && free >= numberOfNodes;
+    }
+
+
+    /**
+     * Renumbers the nodes in use as 0, 1, 2, ... in their current order and
+     * shrinks the arrays so the graph is at most half way to its load
+     * factor, but never below its first size. Whoever holds node indexes
+     * must renumber them with the returned map.
+     * 
+     * @return map from old index to new index, -1 for an unused index, or
+     *         null if no node would move and the size would stay the same
+     */
+    public int[] compact() {
+        int[] map = new int[maxSize];
+        int live = 0;
+        boolean moved = false;
+        for (int i = 0; i < maxSize; i++) {
+            map[i] = neighbors[i] == null ? -1 : live++;
+            moved |= map[i] != -1 && map[i] != i;
+        }
+
+        int newSize = compactedSize(live);
+        if (!moved && newSize == maxSize) {
+            return null; // the union-find and edge index still hold
+        }
+
+        int[][] newNeighbors = new int[newSize][];
+        int[][] newTwins = new int[newSize][];
+        int[] newDegree = new int[newSize];
+        for (int i = 0; i < maxSize; i++) {
+            if (neighbors[i] != null) {
+                for (int j = 0; j < degree[i]; j++) {
+                    neighbors[i][j] = map[neighbors[i][j]];
                 }
+                newNeighbors[map[i]] = neighbors[i];
+                newTwins[map[i]] = twins[i];
+                newDegree[map[i]] = degree[i];
             }
         }
+        neighbors = newNeighbors;
+        twins = newTwins;
+        degree = newDegree;
 
-        for (int i = 0; i < vertex.length; i++) {
-            if (weights[i] > largestComponent) {
-                largestComponent = weights[i];
-            }
+        array = new int[newSize];
+        weights = new int[newSize];
+        for (int i = 0; i < newSize; i++) {
+            array[i] = -1;
+            weights[i] = i < live ? 1 : 0;
+        }
+        maxSize = newSize;
+        stale = true;
+        if (edges != null) { // the keys hold the old indexes
+            indexEdges();
         }
+        return map;
+    }
+
+
+    /**
+     * The size compact shrinks to for a number of live nodes
+     * 
+     * @param live
+     *            the number of nodes in use
+     * @return the new size, never below the first size or above this one
+     */
+    private int compactedSize(int live) {
+        int newSize = (int)Math.min(maxSize, Math.max(initialSize, Math.ceil(
+            live / (loadFactor / 2))));
+        return Math.max(1, Math.max(newSize, live));
+    }
+
 
-        System.out.println("There are " + numberOfComponents
+    /**
+     * Print the graph contents. Only goes over the edges of components a
+     * node was removed from, or all of them if the union-find is stale.
+     */
+    public void printGraph() {
+        refreshComponents();
+
+        System.out.println("There are " + connectedComponents
             + " connected components");
         System.out.println("The largest connected component has "
             + largestComponent + " elements");
-
-        this.connectedComponents = numberOfComponents;
     }
 
 
     /**
-     * Iterates through graph and unionizes connected nodes
+     * Iterates through graph and unionizes connected nodes, building the
+     * union-find and the component counts again from the edges
      */
     public void unionConnectedNodes() {
+        connectedComponents = 0;
+        largestComponent = 0;
+        sizes = new int[maxSize + 1];
+        removedCount = 0;
+        seedCount = 0;
         for (int i = 0; i < maxSize; i++) {
             array[i] = -1;
-            if (vertex[i] == null) {
+            if (neighbors[i] == null) {
                 weights[i] = 0;
             }
             else {
                 weights[i] = 1;
+                sizes[1]++;
+                connectedComponents++;
+                largestComponent = 1;
             }
         }
         for (int i = 0; i < maxSize; i++) {
-            if (vertex[i] != null) {
-                vertex[i].resetCurr();
-                for (int j = 0; j < vertex[i].getSize(); j++) {
-                    int neighbor = vertex[i].getNext();
-                    union(i, neighbor);
+            for (int j = 0; j < degree[i]; j++) {
+                union(i, neighbors[i][j]);
+            }
+        }
+        stale = false;
+    }
+
+
+    /**
+     * Brings the component counts up to date, building the union-find again
+     * if it is stale and settling the removals since the last query if not
+     */
+    private void refreshComponents() {
+        if (stale) {
+            unionConnectedNodes();
+        }
+        else {
+            settle();
+        }
+    }
+
+
+    /**
+     * Settles the nodes removed since the last query. The components that
+     * held them leave the counts, and a breadth first search from their
+     * former neighbors finds the components left in their place. Nodes in
+     * other components are not looked at.
+     */
+    private void settle() {
+        if (removedCount == 0) {
+            return;
+        }
+        if (seen == null || seen.length != maxSize) {
+            seen = new int[maxSize];
+            mark = 0;
+        }
+
+        mark++; // each old component leaves the counts once
+        for (int i = 0; i < removedCount; i++) {
+            int root = find(removed[i]);
+            if (seen[root] != mark) {
+                seen[root] = mark;
+                sizes[weights[root]]--;
+                connectedComponents--;
+            }
+        }
+
+        mark++;
+        int[] queue = new int[16];
+        for (int i = 0; i < seedCount; i++) {
+            int seed = seeds[i];
+            if (neighbors[seed] == null || seen[seed] == mark) {
+                continue; // removed as well, or already reached
+            }
+            seen[seed] = mark;
+            queue[0] = seed;
+            int tail = 1;
+            for (int head = 0; head < tail; head++) {
+                int node = queue[head];
+                for (int j = 0; j < degree[node]; j++) {
+                    int next = neighbors[node][j];
+                    if (neighbors[next] != null && seen[next] != mark) {
+                        seen[next] = mark;
+                        queue = append(queue, tail++, next);
+                    }
                 }
             }
+            for (int j = 1; j < tail; j++) {
+                array[queue[j]] = seed;
+                weights[queue[j]] = 1;
+            }
+            array[seed] = -1;
+            weights[seed] = tail;
+            sizes[tail]++;
+            connectedComponents++;
+        }
+
+        for (int i = 0; i < removedCount; i++) {
+            array[removed[i]] = -1;
+            weights[removed[i]] = 0;
+        }
+        removedCount = 0;
+        seedCount = 0;
+        while (largestComponent > 0 && sizes[largestComponent] == 0) {
+            largestComponent--;
         }
     }
 
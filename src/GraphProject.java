@@ -1,7 +1,27 @@
 // -------------------------------------------------------------------------
 /**
  * Main for Graph project (CS3114/CS5040 Fall 2023 Project 4).
- * Usage: java GraphProject <init-hash-size> <command-file>
+ * Usage: java GraphProject <init-hash-size> <command-file> [options]
+ *
+ * Options:
+ * --load-factor=F fraction of a table in use before it grows (0.5)
+ * --growth=G how many times bigger a grown table is (2)
+ * --max-capacity=N largest size of a table or the graph
+ * --min-load-factor=F fraction in use before a table shrinks or the graph
+ * compacts (0, never)
+ * --layout=L how the tables are stored (records):
+ * records one Record object per slot
+ * compact parallel arrays with the keys off the heap
+ * dense an int index over the records in insertion order
+ * --hash=H hash for the table keys: sfold, mix[:seed] or sip[:seed], with a
+ * random seed when none is given (sfold)
+ * --bloom-bits=N Bloom filter bits per key, 0 to 64, in front of each table
+ * to answer lookups of missing keys; only the records layout has one, and
+ * it prints a filter report line per table after the commands (0, off)
+ * --key-report=true print how many keys shared their text with another
+ * key and the bytes that saved, after the commands (false)
+ * --edge-index=true keep a hash set of the edges so checking for an edge
+ * takes constant time instead of a walk over a node's neighbors (false)
  *
  * @author lakshitha gattu and Shurti Narayanan
  * @version 9/19/2024
@@ -26,6 +46,7 @@
 // anything during the discussion or modifies any computer file
 // during the discussion. I have violated neither the spirit nor
 // letter of this restriction.
+import java.security.SecureRandom;
 
 public class GraphProject {
     /**
@@ -35,13 +56,139 @@ public class GraphProject {
     @SuppressWarnings("static-access")
     public static void main(String[] args) {
         // This is the main file for the program.
-        int initHashSize = Integer.parseInt(args[0]);
-        String commandFile = args[1];
+        HashOptions options = new HashOptions();
+        String[] positional = new String[2];
+        int count = 0;
+        for (String arg : args) {
+            if (arg.startsWith("--")) {
+                setOption(options, arg);
+            }
+            else if (count < positional.length) {
+                positional[count++] = arg;
+            }
+        }
+        int initHashSize = Integer.parseInt(positional[0]);
+        String commandFile = positional[1];
 
-        Controller controller = new Controller(initHashSize);
+        Controller controller = new Controller(initHashSize, options);
         CommandProcessor commandProcessor = new CommandProcessor(controller);
 
         commandProcessor.beginParsingByLine(commandFile);
+        if (options.isKeyReport()) {
+            controller.printKeyReport();
+        }
+        if (options.getBloomBitsPerKey() > 0) {
+            controller.printFilterReport();
+        }
+
+    }
+
+
+    /**
+     * Sets one option from a command line flag such as --growth=1.5
+     * 
+     * @param options
+     *            the options to change
+     * @param flag
+     *            the command line flag
+     */
+    public static void setOption(HashOptions options, String flag) {
+        int equals = flag.indexOf('=');
+        if (equals == -1) {
+            throw new IllegalArgumentException("option needs a value: "
+                + flag);
+        }
+        String name = flag.substring(2, equals);
+        String value = flag.substring(equals + 1);
+        switch (name) {
+            case "load-factor":
+                options.setLoadFactor(Double.parseDouble(value));
+                break;
+            case "growth":
+                options.setGrowthFactor(Double.parseDouble(value));
+                break;
+            case "max-capacity":
+                options.setMaxCapacity(Integer.parseInt(value));
+                break;
+            case "min-load-factor":
+                options.setMinLoadFactor(Double.parseDouble(value));
+                break;
+            case "layout":
+                boolean known = false;
+                for (TableLayout layout : TableLayout.values()) {
+                    if (layout.name().toLowerCase().equals(value)) {
+                        options.setLayout(layout);
+                        known = true;
+                    }
+                }
+                if (!known) {
+                    throw new IllegalArgumentException("unknown layout: "
+                        + value);
+                }
+                break;
+            case "hash":
+                options.setHashFunction(hashFunction(value));
+                break;
+            case "key-report":
+                options.setKeyReport(parseSwitch(value));
+                break;
+            case "edge-index":
+                options.setEdgeIndex(parseSwitch(value));
+                break;
+            case "bloom-bits":
+                options.setBloomBitsPerKey(Integer.parseInt(value));
+                break;
+            default:
+                throw new IllegalArgumentException("unknown option: "
+                    + flag);
+        }
+    }
 
+
+    /**
+     * Reads the value of an on or off flag
+     * 
+     * @param value
+     *            the value of the flag, true or false
+     * @return true for on
+     */
+    private static boolean parseSwitch(String value) {
+        if (!"true".equals(value) && !"false".equals(value)) {
+            throw new IllegalArgumentException("not true or false: "
+                + value);
+        }
+        return "true".equals(value);
+    }
+
+
+    /**
+     * Makes the hash function named by a --hash flag: sfold, mix or sip,
+     * the last two optionally followed by a colon and a seed. Without a
+     * seed, a random one is picked for the run.
+     * 
+     * @param spec
+     *            the value of the flag, such as mix:42
+     * @return the hash function
+     */
+    public static HashFunction hashFunction(String spec) {
+        int colon = spec.indexOf(':');
+        String name = colon == -1 ? spec : spec.substring(0, colon);
+        long seed = colon == -1
+            ? new SecureRandom().nextLong()
+            : Long.parseLong(spec.substring(colon + 1));
+        switch (name) {
+            case "sfold":
+                if (colon != -1) {
+                    throw new IllegalArgumentException(
+                        "sfold takes no seed: " + spec);
+                }
+                return HashFunction.SFOLD;
+            case "mix":
+                return new MixHash(seed);
+            case "sip":
+                return new SipHash(seed);
+            default:
+                throw new IllegalArgumentException("unknown hash: " + spec);
+        }
     }
 }
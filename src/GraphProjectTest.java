@@ -84,4 +84,139 @@ public class GraphProjectTest extends TestCase {
         assertFuzzyEquals(expectedOutput, actualOutput);
 
     }
+
+
+    /**
+     * Tests the growth flags are read and the sample still runs the same
+     * with a maximum capacity that is never reached
+     *
+     * @throws Exception
+     */
+    public void testOptions() throws Exception {
+        HashOptions options = new HashOptions();
+        GraphProject.setOption(options, "--load-factor=0.8");
+        GraphProject.setOption(options, "--growth=1.5");
+        GraphProject.setOption(options, "--max-capacity=4096");
+        GraphProject.setOption(options, "--min-load-factor=0.1");
+        assertEquals(0.1, options.getMinLoadFactor(), 0.0);
+        assertEquals(0.8, options.getLoadFactor(), 0.0);
+        assertEquals(1.5, options.getGrowthFactor(), 0.0);
+        assertEquals(4096, options.getMaxCapacity());
+
+        String[] args = { "10", "src/P1_sampleInput.txt",
+            "--max-capacity=4096" };
+        GraphProject.main(args);
+        assertFuzzyEquals(readFile("solutionTestData/P1_sampleOutput.txt"),
+            systemOut().getHistory());
+    }
+
+
+    /**
+     * Tests unknown and malformed flags are rejected
+     */
+    public void testBadOptions() {
+        HashOptions options = new HashOptions();
+        int rejected = 0;
+        String[] flags = { "--colour=red", "--growth", "--growth=1",
+            "--layout=rows", "--key-report=yes", "--hash=md5",
+            "--hash=sfold:1", "--hash=mix:x" };
+        for (String flag : flags) {
+            try {
+                GraphProject.setOption(options, flag);
+            }
+            catch (IllegalArgumentException e) {
+                rejected++;
+            }
+        }
+        assertEquals(8, rejected);
+    }
+
+
+    /**
+     * Tests the sample gives the same output with the compact layout
+     *
+     * @throws Exception
+     */
+    public void testCompactLayout() throws Exception {
+        String[] args = { "10", "src/P1_sampleInput.txt", "--layout=compact" };
+        GraphProject.main(args);
+        assertFuzzyEquals(readFile("solutionTestData/P1_sampleOutput.txt"),
+            systemOut().getHistory());
+    }
+
+
+    /**
+     * Tests the key report follows the output of the last command
+     *
+     * @throws Exception
+     */
+    public void testKeyReport() throws Exception {
+        String[] args = { "10", "src/P1_sampleInput.txt",
+            "--key-report=true" };
+        GraphProject.main(args);
+        String output = systemOut().getHistory();
+        assertTrue(output.startsWith(readFile(
+            "solutionTestData/P1_sampleOutput.txt").trim()));
+        assertTrue(output.contains("Key pool: "));
+    }
+
+
+    /**
+     * Tests the hash flag picks the hash function
+     */
+    public void testHashOption() {
+        HashOptions options = new HashOptions();
+        GraphProject.setOption(options, "--hash=mix:5");
+        assertEquals(5, ((MixHash)options.getHashFunction()).getSeed());
+        GraphProject.setOption(options, "--hash=sip");
+        assertTrue(options.getHashFunction() instanceof SipHash);
+        GraphProject.setOption(options, "--hash=sfold");
+        assertSame(HashFunction.SFOLD, options.getHashFunction());
+        assertEquals(new SipHash(9).hash("hokies"), GraphProject.hashFunction(
+            "sip:9").hash("hokies"));
+    }
+
+
+    /**
+     * Tests the sample gives the same output with the dense layout
+     *
+     * @throws Exception
+     */
+    public void testDenseLayout() throws Exception {
+        String[] args = { "10", "src/P1_sampleInput.txt", "--layout=dense" };
+        GraphProject.main(args);
+        assertFuzzyEquals(readFile("solutionTestData/P1_sampleOutput.txt"),
+            systemOut().getHistory());
+    }
+
+
+    /**
+     * Tests the sample gives the same output with Bloom filters, followed
+     * by the filter report
+     *
+     * @throws Exception
+     */
+    public void testBloomFilter() throws Exception {
+        String[] args = { "10", "src/P1_sampleInput.txt", "--bloom-bits=10" };
+        GraphProject.main(args);
+        String output = systemOut().getHistory();
+        assertTrue(output.startsWith(readFile(
+            "solutionTestData/P1_sampleOutput.txt").trim()));
+        assertTrue(output.contains("Artist filter: "));
+        assertTrue(output.contains("Song filter: "));
+    }
+
+
+    /**
+     * Tests the sample gives the same output with the edge index
+     *
+     * @throws Exception
+     */
+    public void testEdgeIndex() throws Exception {
+        String[] args = { "10", "src/P1_sampleInput.txt",
+            "--edge-index=true" };
+        GraphProject.main(args);
+        assertFuzzyEquals(readFile("solutionTestData/P1_sampleOutput.txt"),
+            systemOut().getHistory());
+    }
 }
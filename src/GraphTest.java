@@ -20,6 +20,8 @@
 import student.TestCase;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Random;
 
 /**
  * // -------------------------------------------------------------------------
@@ -69,8 +71,8 @@ public class GraphTest extends TestCase {
 
         assertTrue(graph.hasEdge(1, 2));
         assertTrue(graph.hasEdge(2, 1));
-        assertNotNull(graph.getVertex()[1]);
-        assertNotNull(graph.getVertex()[2]);
+        assertTrue(graph.hasNode(1));
+        assertTrue(graph.hasNode(2));
 
     }
 
@@ -191,7 +193,7 @@ public class GraphTest extends TestCase {
      */
     public void testRemoveEdgeNullNode() {
         graph.newNode(new Node(0));
-        assertNull(graph.getVertex()[1]);
+        assertFalse(graph.hasNode(1));
         graph.removeEdge(0, 1);
         assertFalse(graph.hasEdge(0, 1));
     }
@@ -201,13 +203,37 @@ public class GraphTest extends TestCase {
      * Tests remove edge from empty graph
      */
     public void testRemoveEdgeEmptyGraph() {
-        assertNull(graph.getVertex()[2]);
-        assertNull(graph.getVertex()[3]);
+        assertFalse(graph.hasNode(2));
+        assertFalse(graph.hasNode(3));
         graph.removeEdge(2, 3);
         assertFalse(graph.hasEdge(2, 3));
     }
 
 
+    /**
+     * Tests adding a node again drops its edges but leaves the halves its
+     * neighbors hold, so removing either node afterwards works
+     */
+    public void testNewNodeAgain() {
+        for (int order = 0; order < 4; order++) {
+            graph = new Graph(5);
+            graph.setEdgeIndex(order >= 2);
+            graph.newNode(0);
+            graph.newNode(1);
+            graph.addEdge(0, 1);
+            graph.newNode(0);
+            assertFalse(graph.hasEdge(0, 1));
+            assertTrue(graph.hasEdge(1, 0));
+            assertEquals(0, graph.getDegree(0));
+
+            graph.removeNode(order % 2 == 0 ? 1 : 0);
+            graph.removeNode(order % 2 == 0 ? 0 : 1);
+            assertFalse(graph.hasNode(0));
+            assertFalse(graph.hasNode(1));
+        }
+    }
+
+
     /**
      * Tests expand graph
      */
@@ -269,21 +295,21 @@ public class GraphTest extends TestCase {
 
         Node node1 = new Node(0);
         graph.newNode(node1);
-        assertNotNull(graph.getVertex()[node1.getIndex()]);
-        assertEquals(0, graph.getVertex()[node1.getIndex()].getSize());
+        assertTrue(graph.hasNode(node1.getIndex()));
+        assertEquals(0, graph.getDegree(node1.getIndex()));
         assertEquals(1, graph.getNumberOfNodes());
 
         // Continue inserting nodes
         Node node2 = new Node(1);
         graph.newNode(node2);
-        assertNotNull(graph.getVertex()[node2.getIndex()]);
-        assertEquals(0, graph.getVertex()[node2.getIndex()].getSize());
+        assertTrue(graph.hasNode(node2.getIndex()));
+        assertEquals(0, graph.getDegree(node2.getIndex()));
         assertEquals(2, graph.getNumberOfNodes());
 
         Node node3 = new Node(2);
         graph.newNode(node3);
-        assertNotNull(graph.getVertex()[node3.getIndex()]);
-        assertEquals(0, graph.getVertex()[node3.getIndex()].getSize());
+        assertTrue(graph.hasNode(node3.getIndex()));
+        assertEquals(0, graph.getDegree(node3.getIndex()));
         assertEquals(3, graph.getNumberOfNodes());
 
         // make the graph expand
@@ -291,13 +317,13 @@ public class GraphTest extends TestCase {
         graph.newNode(node4);
 
         // Assert that expansion has occurred
-        assertEquals(8, graph.getVertex().length);
+        assertEquals(8, graph.getSize());
         assertEquals(4, graph.getNumberOfNodes());
         // Insert another node post-expansion
         Node node5 = new Node(4);
         graph.newNode(node5);
-        assertNotNull(graph.getVertex()[node5.getIndex()]);
-        assertEquals(0, graph.getVertex()[node5.getIndex()].getSize());
+        assertTrue(graph.hasNode(node5.getIndex()));
+        assertEquals(0, graph.getDegree(node5.getIndex()));
         assertEquals(5, graph.getNumberOfNodes());
     }
 
@@ -321,18 +347,18 @@ public class GraphTest extends TestCase {
         assertTrue(graph.hasEdge(1, 2));
         assertTrue(graph.hasEdge(2, 3));
 
-        assertNotNull(graph.getVertex()[1]);
-        assertNotNull(graph.getVertex()[2]);
-        assertNotNull(graph.getVertex()[3]);
+        assertTrue(graph.hasNode(1));
+        assertTrue(graph.hasNode(2));
+        assertTrue(graph.hasNode(3));
 
-        assertEquals(graph.getVertex()[1].getSize(), 1);
+        assertEquals(graph.getDegree(1), 1);
 
         graph.removeNode(node2);
 
-        assertNull(graph.getVertex()[2]);
+        assertFalse(graph.hasNode(2));
 
-        assertFalse(graph.getVertex()[1].contains(2));
-        assertFalse(graph.getVertex()[3].contains(2));
+        assertEquals(0, graph.getDegree(1));
+        assertEquals(0, graph.getDegree(3));
 
         assertFalse(graph.hasEdge(1, 2));
         assertFalse(graph.hasEdge(2, 3));
@@ -345,9 +371,9 @@ public class GraphTest extends TestCase {
      */
     public void testRemoveNodeNoEdge() {
         graph.newNode(new Node(0));
-        assertNotNull(graph.getVertex()[0]);
+        assertTrue(graph.hasNode(0));
         graph.removeNode(new Node(0));
-        assertNull(graph.getVertex()[(new Node(0)).getIndex()]);
+        assertFalse(graph.hasNode((new Node(0)).getIndex()));
 
     }
 
@@ -363,8 +389,8 @@ public class GraphTest extends TestCase {
         Node nonExistingNode = new Node(4);
         graph.removeNode(nonExistingNode);
 
-        assertNotNull(graph.getVertex()[testNode.getIndex()]);
-        assertNull(graph.getVertex()[nonExistingNode.getIndex()]);
+        assertTrue(graph.hasNode(testNode.getIndex()));
+        assertFalse(graph.hasNode(nonExistingNode.getIndex()));
 
     }
 
@@ -379,11 +405,11 @@ public class GraphTest extends TestCase {
         graph.removeNode(negative);
         graph.removeNode(greater);
 
-        assertNull(graph.getVertex()[0]);
-        assertNull(graph.getVertex()[1]);
-        assertNull(graph.getVertex()[2]);
-        assertNull(graph.getVertex()[3]);
-        assertNull(graph.getVertex()[4]);
+        assertFalse(graph.hasNode(0));
+        assertFalse(graph.hasNode(1));
+        assertFalse(graph.hasNode(2));
+        assertFalse(graph.hasNode(3));
+        assertFalse(graph.hasNode(4));
 
     }
 
@@ -398,15 +424,15 @@ public class GraphTest extends TestCase {
         catch (NullPointerException e) {
             System.out.println("Null point exception");
         }
-        assertNull(graph.getVertex()[0]);
-        assertNull(graph.getVertex()[1]);
-        assertNull(graph.getVertex()[2]);
-        assertNull(graph.getVertex()[3]);
-        assertNull(graph.getVertex()[4]);
+        assertFalse(graph.hasNode(0));
+        assertFalse(graph.hasNode(1));
+        assertFalse(graph.hasNode(2));
+        assertFalse(graph.hasNode(3));
+        assertFalse(graph.hasNode(4));
         assertEquals(graph.getNumberOfNodes(), 0);
 
         graph.newNode(new Node(1));
-        assertNotNull(graph.getVertex()[1]);
+        assertTrue(graph.hasNode(1));
 
     }
 
@@ -546,14 +572,551 @@ public class GraphTest extends TestCase {
      */
     public void testAddEdgeNoDuplicate() {
         graph = new Graph(10);
-        graph.getVertex()[0] = new DoubleLL<>();
-        graph.getVertex()[2] = new DoubleLL<>();
-        graph.getVertex()[0].insert(2);
-        graph.getVertex()[2].insert(0);
+        graph.addEdge(0, 2);
         assertTrue(graph.hasEdge(0, 2));
         graph.addEdge(0, 2);
-        assertEquals(1, graph.getVertex()[0].getSize());
-        assertEquals(1, graph.getVertex()[2].getSize());
+        assertEquals(1, graph.getDegree(0));
+        assertEquals(1, graph.getDegree(2));
+    }
+
+
+    /**
+     * Tests a graph with a higher load factor and a smaller growth factor
+     */
+    public void testGrowthPolicy() {
+        graph = new Graph(4, 0.75, 1.5, 100);
+        for (int i = 0; i < 3; i++) {
+            graph.newNode(new Node(i));
+        }
+        assertEquals(4, graph.getSize());
+        graph.newNode(new Node(3));
+        assertEquals(6, graph.getSize());
+    }
+
+
+    /**
+     * Tests a node whose index is past the end makes the graph expand even
+     * when few nodes are in use
+     */
+    public void testNewNodeIndexPastEnd() {
+        graph.newNode(new Node(0));
+        graph.removeNode(new Node(0));
+        graph.newNode(new Node(12));
+        assertTrue(graph.getSize() > 12);
+        assertTrue(graph.hasNode(12));
+    }
+
+
+    /**
+     * Tests the graph does not grow past its maximum capacity
+     */
+    public void testMaxCapacity() {
+        graph = new Graph(2, 0.5, 2.0, 4);
+        for (int i = 0; i < 4; i++) {
+            graph.newNode(new Node(i));
+        }
+        assertEquals(4, graph.getSize());
+        graph.expand();
+        assertEquals(4, graph.getSize());
+
+        Exception thrown = null;
+        try {
+            graph.newNode(new Node(4));
+        }
+        catch (IllegalStateException e) {
+            thrown = e;
+        }
+        assertNotNull(thrown);
+    }
+
+
+    /**
+     * Tests compact renumbers the nodes in use and shrinks the graph
+     */
+    public void testCompact() {
+        graph = new Graph(4);
+        for (int i = 0; i < 10; i++) {
+            graph.newNode(new Node(i));
+        }
+        graph.addEdge(1, 8);
+        graph.addEdge(8, 9);
+        graph.addEdge(3, 5);
+        assertEquals(32, graph.getSize());
+        for (int i = 0; i < 10; i++) {
+            if (i != 1 && i != 3 && i != 5 && i != 8 && i != 9) {
+                graph.removeNode(new Node(i));
+            }
+        }
+
+        int[] map = graph.compact();
+        assertEquals(0, map[1]);
+        assertEquals(1, map[3]);
+        assertEquals(2, map[5]);
+        assertEquals(3, map[8]);
+        assertEquals(4, map[9]);
+        assertEquals(-1, map[0]);
+        assertEquals(5, graph.getNumberOfNodes());
+        assertEquals(20, graph.getSize());
+        assertTrue(graph.hasEdge(0, 3));
+        assertTrue(graph.hasEdge(3, 4));
+        assertTrue(graph.hasEdge(2, 1));
+        assertFalse(graph.hasEdge(0, 1));
+
+        graph.printGraph();
+        assertEquals(2, graph.getConnectedComponents());
+    }
+
+
+    /**
+     * Tests compact leaves a graph alone when nothing would move, and
+     * removals at the first size only pay off once half the indexes are free
+     */
+    public void testCompactSkipped() {
+        graph = new Graph(16);
+        for (int i = 0; i < 6; i++) {
+            graph.newNode(i);
+        }
+        graph.addEdge(0, 1);
+        graph.removeNode(5);
+        assertFalse(graph.canCompact(6));
+        assertNull(graph.compact());
+        assertEquals(16, graph.getSize());
+        assertTrue(graph.hasEdge(0, 1));
+
+        graph.removeNode(2);
+        assertFalse(graph.canCompact(6));
+        graph.removeNode(3);
+        assertTrue(graph.canCompact(6));
+        int[] map = graph.compact();
+        assertEquals(0, map[0]);
+        assertEquals(2, map[4]);
+        assertEquals(16, graph.getSize());
+        assertFalse(graph.canCompact(3));
+        assertNull(graph.compact());
+        assertTrue(graph.hasEdge(1, 0));
+        assertEquals(2, graph.getConnectedComponents());
+    }
+
+
+    /**
+     * Tests reserve expands once to the size adding the nodes would reach
+     */
+    public void testReserve() {
+        Graph grown = new Graph(4);
+        for (int i = 0; i < 10; i++) {
+            grown.newNode(i);
+        }
+        graph = new Graph(4);
+        graph.reserve(10);
+        assertEquals(grown.getSize(), graph.getSize());
+        assertEquals(32, graph.getSize());
+        for (int i = 0; i < 10; i++) {
+            graph.newNode(i);
+        }
+        graph.addEdge(0, 9);
+        assertTrue(graph.hasEdge(9, 0));
+        assertEquals(32, graph.getSize());
+
+        graph.reserve(3);
+        assertEquals(32, graph.getSize());
+        graph = new Graph(4, 0.5, 2.0, 20);
+        graph.reserve(100);
+        assertEquals(20, graph.getSize());
+    }
+
+
+    /**
+     * Tests neighbor arrays grow past their first length, keep one copy of
+     * each edge, and lose a neighbor when it is removed
+     */
+    public void testNeighbors() {
+        graph = new Graph(20);
+        for (int i = 0; i < 10; i++) {
+            graph.newNode(i);
+        }
+        assertEquals(0, graph.getNeighbors(0).length);
+        assertNull(graph.getNeighbors(15));
+        assertNull(graph.getNeighbors(-1));
+        assertEquals(0, graph.getDegree(15));
+        for (int i = 1; i < 10; i++) {
+            graph.addEdge(0, i);
+            graph.addEdge(i, 0);
+        }
+        assertEquals(9, graph.getDegree(0));
+        int[] neighbors = graph.getNeighbors(0);
+        Arrays.sort(neighbors);
+        assertEquals(Arrays.toString(new int[] { 1, 2, 3, 4, 5, 6, 7, 8,
+            9 }), Arrays.toString(neighbors));
+
+        graph.removeEdge(0, 5);
+        assertFalse(graph.hasEdge(0, 5));
+        assertTrue(graph.hasEdge(5, 0));
+        graph.removeNode(3);
+        assertEquals(7, graph.getDegree(0));
+        assertFalse(graph.hasEdge(0, 3));
+
+        graph.printGraph();
+        assertEquals(1, graph.getConnectedComponents());
+    }
+
+
+    /**
+     * Tests compact renumbers the neighbors of every node
+     */
+    public void testCompactNeighbors() {
+        graph = new Graph(10);
+        for (int i = 0; i < 6; i++) {
+            graph.newNode(i);
+        }
+        graph.addEdge(1, 4);
+        graph.addEdge(4, 5);
+        graph.removeNode(0);
+        graph.removeNode(2);
+        int[] map = graph.compact();
+        assertEquals(0, map[1]);
+        assertEquals(2, map[4]);
+        assertEquals(3, map[5]);
+        assertTrue(graph.hasEdge(0, 2));
+        assertTrue(graph.hasEdge(2, 0));
+        assertTrue(graph.hasEdge(2, 3));
+        assertEquals(0, graph.getDegree(1));
+    }
+
+
+    /**
+     * Tests removing a hub takes it out of every neighbor, and that the
+     * neighbors moved around by that can still be removed
+     */
+    public void testRemoveHub() {
+        int songs = 50000;
+        graph = new Graph(16);
+        graph.reserve(songs + 1);
+        for (int i = 0; i <= songs; i++) {
+            graph.newNode(i);
+        }
+        for (int i = 1; i <= songs; i++) {
+            graph.addEdge(0, i);
+            graph.addEdge(i, i % 7 + 1);
+        }
+        graph.removeNode(0);
+        for (int i = 1; i <= songs; i++) {
+            assertFalse(graph.hasEdge(i, 0));
+        }
+        assertTrue(graph.hasEdge(2, 8));
+        graph.removeNode(2);
+        assertFalse(graph.hasEdge(8, 2));
+        assertEquals(0, graph.getDegree(8));
+        assertEquals(1, graph.getDegree(9));
+        assertTrue(graph.hasEdge(3, 9));
+    }
+
+
+    /**
+     * Tests random inserts and node removals keep both halves of every edge
+     * and nothing else
+     */
+    public void testRandomEdges() {
+        int size = 60;
+        graph = new Graph(size);
+        boolean[][] edges = new boolean[size][size];
+        boolean[] nodes = new boolean[size];
+        Random random = new Random(3114);
+        for (int step = 0; step < 5000; step++) {
+            int a = random.nextInt(size);
+            int b = random.nextInt(size);
+            if (random.nextInt(10) == 0) {
+                graph.removeNode(a);
+                nodes[a] = false;
+                for (int i = 0; i < size; i++) {
+                    edges[a][i] = false;
+                    edges[i][a] = false;
+                }
+            }
+            else {
+                if (!nodes[a]) {
+                    graph.newNode(a);
+                    nodes[a] = true;
+                }
+                if (!nodes[b]) {
+                    graph.newNode(b);
+                    nodes[b] = true;
+                }
+                graph.addEdge(a, b);
+                edges[a][b] = true;
+                edges[b][a] = true;
+            }
+        }
+        for (int a = 0; a < size; a++) {
+            assertEquals(nodes[a], graph.hasNode(a));
+            int degree = 0;
+            for (int b = 0; b < size; b++) {
+                assertEquals(edges[a][b], graph.hasEdge(a, b));
+                degree += edges[a][b] ? a == b ? 2 : 1 : 0;
+            }
+            assertEquals(degree, graph.getDegree(a));
+        }
     }
 
+
+    /**
+     * Tests a graph with the edge index answers hasEdge like one without,
+     * through edge changes, node removals and compaction
+     */
+    public void testEdgeIndex() {
+        int size = 40;
+        Graph indexed = new Graph(size);
+        graph = new Graph(size);
+        assertFalse(graph.isEdgeIndex());
+        Random random = new Random(3114);
+        for (int i = 0; i < size; i++) {
+            indexed.newNode(i);
+            graph.newNode(i);
+        }
+        for (int step = 0; step < 2000; step++) {
+            if (step == 500) {
+                indexed.setEdgeIndex(true); // made from the edges so far
+                assertTrue(indexed.isEdgeIndex());
+            }
+            int a = random.nextInt(size);
+            int b = random.nextInt(size);
+            int choice = random.nextInt(20);
+            if (choice == 0) {
+                indexed.removeNode(a);
+                graph.removeNode(a);
+                indexed.newNode(a);
+                graph.newNode(a);
+            }
+            else if (choice < 4) {
+                indexed.removeEdge(a, b);
+                graph.removeEdge(a, b);
+            }
+            else {
+                indexed.addEdge(a, b);
+                graph.addEdge(a, b);
+            }
+        }
+        for (int i = 0; i < size; i += 3) {
+            indexed.removeNode(i);
+            graph.removeNode(i);
+        }
+        indexed.compact();
+        graph.compact();
+        for (int a = 0; a < graph.getSize(); a++) {
+            assertEquals(graph.getDegree(a), indexed.getDegree(a));
+            for (int b = 0; b < graph.getSize(); b++) {
+                assertEquals(graph.hasEdge(a, b), indexed.hasEdge(a, b));
+            }
+        }
+        indexed.setEdgeIndex(false);
+        assertFalse(indexed.isEdgeIndex());
+    }
+
+
+    /**
+     * Tests the component count and largest size stay right as nodes and
+     * edges are added, through expansions and after removals
+     */
+    public void testOnlineComponents() {
+        graph = new Graph(4);
+        assertEquals(0, graph.getConnectedComponents());
+        assertEquals(0, graph.getLargestComponent());
+        Random random = new Random(3114);
+        int next = 0;
+        for (int step = 0; step < 3000; step++) {
+            if (next < 200 && random.nextInt(3) == 0) {
+                graph.newNode(next++);
+            }
+            else if (next > 1) {
+                int a = random.nextInt(next);
+                int b = random.nextInt(next);
+                if (step % 500 == 499) {
+                    graph.removeNode(a);
+                }
+                else if (graph.hasNode(a) && graph.hasNode(b)) {
+                    graph.addEdge(a, b);
+                }
+            }
+            if (step % 100 == 0) {
+                int components = graph.getConnectedComponents();
+                int largest = graph.getLargestComponent();
+                graph.unionConnectedNodes();
+                assertEquals(graph.getConnectedComponents(), components);
+                assertEquals(graph.getLargestComponent(), largest);
+            }
+        }
+    }
+
+
+    /**
+     * Tests printGraph after inserts only gives the counts kept along the
+     * way, and edges to nodes addEdge makes count those nodes
+     */
+    public void testPrintAfterInserts() {
+        graph = new Graph(10);
+        for (int i = 0; i < 6; i++) {
+            graph.newNode(i);
+        }
+        graph.addEdge(0, 1);
+        graph.addEdge(1, 2);
+        graph.addEdge(3, 4);
+        graph.addEdge(7, 8); // neither node was added
+        assertEquals(4, graph.getConnectedComponents());
+        assertEquals(3, graph.getLargestComponent());
+        systemOut().clearHistory();
+        graph.printGraph();
+        assertEquals("There are 4 connected components\n"
+            + "The largest connected component has 3 elements\n", systemOut()
+                .getHistory());
+
+        graph.removeNode(1);
+        assertEquals(5, graph.getConnectedComponents());
+        assertEquals(2, graph.getLargestComponent());
+        graph.addEdge(0, 5);
+        graph.addEdge(5, 2);
+        assertEquals(3, graph.getConnectedComponents());
+        assertEquals(3, graph.getLargestComponent());
+    }
+
+
+    /**
+     * Tests removals settle only the components they touched, and the
+     * largest size falls back to the next biggest component
+     */
+    public void testSettleRemovals() {
+        graph = new Graph(20);
+        for (int i = 0; i < 10; i++) {
+            graph.newNode(i);
+        }
+        graph.addEdge(0, 1); // path 0 - 1 - 2 - 3 - 4
+        graph.addEdge(1, 2);
+        graph.addEdge(2, 3);
+        graph.addEdge(3, 4);
+        graph.addEdge(5, 6); // triangle 5 6 7
+        graph.addEdge(6, 7);
+        graph.addEdge(7, 5);
+        graph.addEdge(8, 9);
+        assertEquals(3, graph.getConnectedComponents());
+        assertEquals(5, graph.getLargestComponent());
+        int triangleRoot = graph.find(6);
+        int[] triangleParents = { graph.getRoot(5), graph.getRoot(6), graph
+            .getRoot(7) };
+
+        graph.removeNode(2);
+        assertEquals(4, graph.getConnectedComponents());
+        assertEquals(3, graph.getLargestComponent());
+        assertEquals(triangleRoot, graph.find(5));
+        assertEquals(3, graph.getWeight(triangleRoot));
+        assertEquals(triangleParents[1], graph.getRoot(6));
+        assertEquals(triangleParents[2], graph.getRoot(7));
+        assertEquals(graph.find(0), graph.find(1));
+        assertEquals(graph.find(3), graph.find(4));
+        assertFalse(graph.find(0) == graph.find(4));
+
+        graph.removeNode(8); // leaves 9 alone
+        graph.removeNode(9); // and then nothing
+        graph.removeNode(6);
+        assertEquals(3, graph.getConnectedComponents());
+        assertEquals(2, graph.getLargestComponent());
+
+        graph.newNode(10);
+        graph.addEdge(10, 0);
+        graph.addEdge(10, 4);
+        assertEquals(2, graph.getConnectedComponents());
+        assertEquals(5, graph.getLargestComponent());
+
+        graph.removeNode(4);
+        graph.newNode(4); // settles before the index is used again
+        assertEquals(4, graph.getConnectedComponents());
+        assertEquals(3, graph.getLargestComponent());
+    }
+
+
+    /**
+     * Tests removing a node that a neighbor reaches only through the half
+     * of an edge removeEdge left behind
+     */
+    public void testSettleHalfEdge() {
+        graph = new Graph(100);
+        graph.addEdge(56, 86);
+        graph.removeEdge(56, 86);
+        graph.printGraph();
+        assertEquals(1, graph.getConnectedComponents());
+        graph.removeNode(56);
+        graph.printGraph();
+        assertEquals(1, graph.getConnectedComponents());
+        assertEquals(1, graph.getLargestComponent());
+
+        graph.newNode(10);
+        graph.newNode(11);
+        graph.addEdge(10, 11);
+        graph.removeNode(10);
+        assertEquals(2, graph.getConnectedComponents());
+    }
+
+
+    /**
+     * Tests a graph that settles removals along the way counts the same
+     * components as one built again from its edges before every check,
+     * with edges removed and nodes added again along the way
+     */
+    public void testSettleMatchesRebuild() {
+        for (int seed = 0; seed < 5; seed++) {
+            settleMatchesRebuild(new Random(3114 + seed));
+        }
+    }
+
+
+    /**
+     * Runs random changes on a graph that settles removals and on one that
+     * is built again before every check
+     * 
+     * @param random
+     *            picks the changes
+     */
+    private void settleMatchesRebuild(Random random) {
+        Graph rebuilt = new Graph(8);
+        graph = new Graph(8);
+        int next = 0;
+        for (int step = 0; step < 4000; step++) {
+            int choice = random.nextInt(12);
+            if (next < 300 && (choice < 3 || next < 2)) {
+                graph.newNode(next);
+                rebuilt.newNode(next);
+                next++;
+            }
+            else if (choice < 5) {
+                int a = random.nextInt(next);
+                graph.removeNode(a);
+                rebuilt.removeNode(a);
+            }
+            else if (choice == 10) {
+                int a = random.nextInt(next);
+                int b = Math.max(0, a - 1 - random.nextInt(6));
+                graph.removeEdge(a, b);
+                rebuilt.removeEdge(a, b);
+            }
+            else if (choice == 11) {
+                int a = random.nextInt(next);
+                if (graph.hasNode(a) && random.nextInt(4) == 0) {
+                    graph.newNode(a);
+                    rebuilt.newNode(a);
+                }
+            }
+            else {
+                int a = random.nextInt(next);
+                int b = Math.max(0, a - 1 - random.nextInt(6));
+                if (graph.hasNode(a) && graph.hasNode(b)) {
+                    graph.addEdge(a, b);
+                    rebuilt.addEdge(a, b);
+                }
+            }
+            if (random.nextInt(25) == 0) {
+                rebuilt.unionConnectedNodes();
+                assertEquals(rebuilt.getConnectedComponents(), graph
+                    .getConnectedComponents());
+                assertEquals(rebuilt.getLargestComponent(), graph
+                    .getLargestComponent());
+            }
+        }
+    }
 }
@@ -16,6 +16,13 @@
 // anything during the discussion or modifies any computer file
 // during the discussion. I have violated neither the spirit nor
 // letter of this restriction.
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
 /**
  * Hash table class
  * 
@@ -27,7 +34,7 @@
  * @version 9/19/24
  */
 
-public class Hash {
+public class Hash implements RecordTable {
 
     /**
      * private fields
@@ -35,6 +42,15 @@ public class Hash {
     private Record[] allRecords; // array which stores records
     private int numberOfRecords; // number of records
     private Record tombstone; // represents deleted record
+    private long[] hashes; // folded key of the record in each slot
+    private HashOptions options; // how the table grows
+    private Record[] oldRecords; // table being moved out of, or null
+    private long[] oldHashes; // folded keys of the old table
+    private int migrated; // next old slot to move
+    private int minLength; // table never shrinks below its first length
+    private BloomFilter filter; // folded keys in the table, or null
+    private long filterRejects; // missing keys the filter answered
+    private long falsePositives; // missing keys the filter let through
 
     /**
      * Constructor method
@@ -43,9 +59,31 @@ public class Hash {
      *            is the initial size of the hash table
      */
     public Hash(int size) {
+        this(size, new HashOptions());
+    }
+
+
+    /**
+     * Constructor method with options for how the table grows
+     * 
+     * @param size
+     *            is the initial size of the hash table
+     * @param options
+     *            is how the table grows
+     */
+    public Hash(int size, HashOptions options) {
+        if (options.isTriangularProbing()) {
+            size = Math.max(1, Integer.highestOneBit(size - 1) << 1);
+        }
         this.allRecords = new Record[size];
+        this.hashes = new long[size];
         this.numberOfRecords = 0;
-        this.tombstone = (new Record(null, null, null));
+        this.tombstone = (new Record(null, -1, null));
+        this.options = options;
+        this.minLength = size;
+        if (options.getBloomBitsPerKey() > 0) {
+            rebuildFilter();
+        }
     }
 
 
@@ -79,6 +117,92 @@ public class Hash {
     }
 
 
+    /**
+     * Get method for the Bloom filter
+     * 
+     * @return the filter, or null if the table has none
+     */
+    public BloomFilter getFilter() {
+        return filter;
+    }
+
+
+    /**
+     * Get method for the lookups of missing keys the filter answered
+     * 
+     * @return number of lookups that did not probe
+     */
+    public long getFilterRejects() {
+        return filterRejects;
+    }
+
+
+    /**
+     * Get method for the lookups of missing keys the filter let through
+     * 
+     * @return number of lookups that probed and found nothing
+     */
+    public long getFalsePositives() {
+        return falsePositives;
+    }
+
+
+    /**
+     * Gives the share of lookups of missing keys the filter let through
+     * 
+     * @return the false positive rate so far, 0 before any miss
+     */
+    public double getFalsePositiveRate() {
+        long misses = filterRejects + falsePositives;
+        return misses == 0 ? 0 : (double)falsePositives / misses;
+    }
+
+
+    /**
+     * Makes a new Bloom filter holding the folded keys of the records in
+     * the table, big enough for the table to fill up to its load factor.
+     * The old filter may still hold keys that have been removed since.
+     */
+    private void rebuildFilter() {
+        int capacity = Math.max(numberOfRecords, (int)(allRecords.length
+            * options.getLoadFactor())) + 1;
+        filter = new BloomFilter(capacity, options.getBloomBitsPerKey());
+        for (int i = 0; i < allRecords.length; i++) {
+            if (allRecords[i] != null && allRecords[i] != tombstone) {
+                filter.add(hashes[i]);
+            }
+        }
+        if (oldRecords != null) {
+            for (int i = migrated; i < oldRecords.length; i++) {
+                if (oldRecords[i] != null && oldRecords[i] != tombstone) {
+                    filter.add(oldHashes[i]);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Adds the folded key of a new record to the Bloom filter, if there is
+     * one. Makes a new filter instead once twice as many keys went in as
+     * it was made for, as churn leaves the keys of removed records behind.
+     * 
+     * @param code
+     *            is the folded key of the record
+     */
+    private void remember(long code) {
+        if (filter == null) {
+            return;
+        }
+        if (filter.getAdded() >= 2 * filter.getCapacity()) {
+            rebuildFilter(); // the record is already in the table
+        }
+        else {
+            filter.add(code);
+        }
+    }
+
+
     /**
      * Retrieves a record from hash based on its key
      * 
@@ -96,61 +220,471 @@ public class Hash {
 
 
     /**
-     * Inserts a record into the hash
+     * Inserts a record into the hash. Does nothing if a record with the same
+     * key is already there.
      * 
      * @param record
      *            is the record to be inserted
      */
     public void insert(Record record) {
-        // Check if insertion greater than 50% capacity
-        if (numberOfRecords + 1 > allRecords.length / 2) {
-            rehash(); // Rehash if needed
+        findOrInsert(record.getKey(), key -> record);
+    }
+
+
+    /**
+     * Prints that the table of the given record type doubled. The wording
+     * is part of the expected output so it stays the same for other growth
+     * factors.
+     * 
+     * @param type
+     *            is the type of the record being inserted
+     */
+    static void announceGrowth(RecordType type) {
+        if (type == null) {
+            System.out.println("Unknown type hash table size doubled.");
+        }
+        else {
+            System.out.println(type.getLabel()
+                + " hash table size doubled.");
+        }
+    }
 
-            String type = record.getType(); // determines if song or artist
-            if ("song".equals(type)) {
-                System.out.println("Song hash table size doubled.");
+
+    /**
+     * Returns the record stored under key, inserting the one made by factory
+     * if the key is not there yet. Only one probe sequence is walked unless
+     * the insertion makes the table grow. When the Bloom filter knows the
+     * key is missing, the record goes straight into the first free slot.
+     * 
+     * @param key
+     *            is the record key
+     * @param factory
+     *            makes the record to insert when the key is missing
+     * @return the existing record or the newly inserted one
+     */
+    public Record findOrInsert(String key, Function<String, Record> factory) {
+        migrate(options.getMigrationStep());
+
+        long code = options.getHashFunction().hash(key);
+        if (filter != null && !filter.mightContain(code)) {
+            filterRejects++;
+            Record record = factory.apply(key);
+            add(record, code); // same slot the walk below would pick
+            return record;
+        }
+        int home = home(code, allRecords.length, options);
+        int pos = home;
+        int free = -1; // first tombstone seen on the way
+
+        for (int i = 0; allRecords[pos] != null && i < allRecords.length; i++) {
+            if (allRecords[pos] == tombstone) {
+                if (free == -1) {
+                    free = pos;
+                }
             }
-            else if ("artist".equals(type)) {
-                System.out.println("Artist hash table size doubled.");
+            else if (hashes[pos] == code && key.equals(allRecords[pos]
+                .getKey())) {
+                return allRecords[pos];
             }
-            else {
-                System.out.println("Unknown type hash table size doubled.");
+            pos = next(home, i, allRecords.length, options);
+        }
+        if (free == -1 && allRecords[pos] == null) {
+            free = pos;
+        }
+        if (oldRecords != null) {
+            int old = probe(oldRecords, oldHashes, key, code);
+            if (old != -1) {
+                Record found = oldRecords[old];
+                promote(old);
+                return found;
             }
         }
+        if (filter != null) {
+            falsePositives++;
+        }
 
-        String key = record.getKey();
-        int home = h(key, allRecords.length); // initial hash position
-        int pos = home;
+        Record record = factory.apply(key);
+        if (free == -1 || needsGrowth()) {
+            add(record, code); // table has to grow first
+            return record;
+        }
+        allRecords[free] = record;
+        hashes[free] = code;
+        numberOfRecords++;
+        remember(code);
+        return record;
+    }
 
-        // Handles collisions
-        for (int i = 0; allRecords[pos] != null
-            && allRecords[pos] != tombstone; i++) {
-            if (key.equals(allRecords[pos].getKey())) {
-                return; // Record with the same key already exists so no
-                        // insertion is needed
+
+    /**
+     * Adds a record whose key is not in the table. Grows the table first if
+     * the record would put it over the load factor, and again if probing
+     * cannot reach a free slot.
+     * 
+     * @param record
+     *            is the record to be inserted
+     * @param code
+     *            is the folded key of the record
+     */
+    private void add(Record record, long code) {
+        // Check if insertion goes over the load factor
+        if (needsGrowth()) {
+            grow(); // Rehash if needed
+            announceGrowth(record.getType());
+        }
+        while (place(record, code) == -1) { // probing never reaches a free slot
+            if (allRecords.length >= maxLength(options)) {
+                throw new IllegalStateException(
+                    "hash table is full at its maximum capacity");
             }
-            pos = (home + (i * i)) % allRecords.length; // Quadratic probing
+            grow();
+            announceGrowth(record.getType());
         }
-
-        allRecords[pos] = record; // record inserted
         numberOfRecords++;
+        remember(code);
+    }
+
+
+    /**
+     * Checks if one more record would put the table over its load factor.
+     * A table already at its maximum capacity never needs to grow; it keeps
+     * filling past the load factor instead.
+     * 
+     * @return true if the table should grow before the next insert
+     */
+    private boolean needsGrowth() {
+        return numberOfRecords + 1 > allRecords.length * options
+            .getLoadFactor() && allRecords.length < maxLength(options);
     }
 
 
     /**
-     * Doubles size of hash table and adds all records from old hash to new one
+     * Gives the largest length a table may have. Tables with triangular
+     * probing need a power of two so the limit is rounded down to one.
+     * 
+     * @param options
+     *            is how the table grows
+     * @return the largest table length
+     */
+    static int maxLength(HashOptions options) {
+        if (options.isTriangularProbing()) {
+            return Integer.highestOneBit(options.getMaxCapacity());
+        }
+        return options.getMaxCapacity();
+    }
+
+
+    /**
+     * Gives the length of the next smaller table from the growth factor,
+     * never below the first length of the table
+     * 
+     * @param length
+     *            is the current length
+     * @param minLength
+     *            is the first length of the table
+     * @param options
+     *            is how the table grows
+     * @return the new table length
+     */
+    static int shrunkLength(int length, int minLength, HashOptions options) {
+        int shrunk = (int)Math.max(minLength, Math.ceil(length / options
+            .getGrowthFactor()));
+        if (options.isTriangularProbing()) {
+            shrunk = Math.max(1, Integer.highestOneBit(shrunk - 1) << 1);
+        }
+        return shrunk;
+    }
+
+
+    /**
+     * Gives the length of the next bigger table from the growth factor
+     * 
+     * @param length
+     *            is the current length
+     * @param options
+     *            is how the table grows
+     * @return the new table length
+     */
+    static int grownLength(int length, HashOptions options) {
+        long grown = (long)Math.ceil(length * options.getGrowthFactor());
+        grown = Math.max(grown, length + 1L);
+        if (options.isTriangularProbing()) {
+            grown = Long.highestOneBit(grown - 1) << 1; // next power of two
+        }
+        return (int)Math.min(grown, maxLength(options));
+    }
+
+
+    /**
+     * Grows the table once, to the length that inserting records one at a
+     * time would reach, so that it holds count records without growing
+     * again. Prints nothing and never shrinks the table.
+     * 
+     * @param count
+     *            is the number of records the table should hold
+     */
+    public void reserve(int count) {
+        migrate(Integer.MAX_VALUE);
+        int length = reservedLength(allRecords.length, count, options);
+        if (length > allRecords.length) {
+            rehash(length);
+        }
+    }
+
+
+    /**
+     * Gives the length a table reaches by growing from the given length
+     * until count records are within its load factor
+     * 
+     * @param length
+     *            is the current table length
+     * @param count
+     *            is the number of records
+     * @param options
+     *            is how the table grows
+     * @return the grown length, or length if it already fits
+     */
+    static int reservedLength(int length, int count, HashOptions options) {
+        while (count > length * options.getLoadFactor()
+            && length < maxLength(options)) {
+            length = grownLength(length, options);
+        }
+        return length;
+    }
+
+
+    /**
+     * Makes the table bigger by the growth factor. Either moves every record
+     * right away or, with incremental resizing, keeps the old table around
+     * to be moved a few slots at a time.
+     */
+    private void grow() {
+        if (!options.isIncrementalResize()) {
+            rehash();
+            return;
+        }
+        migrate(Integer.MAX_VALUE); // a table only moves one step at a time
+        oldRecords = allRecords;
+        oldHashes = hashes;
+        migrated = 0;
+        allRecords = new Record[grownLength(oldRecords.length, options)];
+        hashes = new long[allRecords.length];
+        if (filter != null) {
+            rebuildFilter();
+        }
+    }
+
+
+    /**
+     * Grows the hash table and adds all records from old hash to new one.
+     * If some record cannot reach a free slot in the new length, which can
+     * happen with quadratic probing, it tries the next bigger length.
      */
     private void rehash() {
+        rehash(grownLength(allRecords.length, options));
+    }
+
+
+    /**
+     * Moves all records into a table of the given length, or the next
+     * bigger one some record cannot reach a free slot in
+     * 
+     * @param length
+     *            is the length to try first
+     */
+    private void rehash(int length) {
+        while (!resize(length)) {
+            if (length >= maxLength(options)) {
+                throw new IllegalStateException(
+                    "hash table is full at its maximum capacity");
+            }
+            length = grownLength(length, options);
+        }
+        if (filter != null) {
+            rebuildFilter();
+        }
+    }
+
+
+    /**
+     * Makes a new table of the given length and adds all records from the
+     * old one. Uses the cached folded keys so no key is hashed again. Keeps
+     * the old table if some record cannot reach a free slot in the new one.
+     * 
+     * @param length
+     *            is the new table length
+     * @return true if the table now has the new length
+     */
+    private boolean resize(int length) {
+        if (allRecords.length >= options.getParallelThreshold()) {
+            return resizeParallel(length);
+        }
+        Record[] oldRecords = allRecords;
+        long[] oldHashes = hashes;
+        allRecords = new Record[length];
+        hashes = new long[length];
+
+        for (int j = 0; j < oldRecords.length; j++) {
+            if (oldRecords[j] != null && oldRecords[j] != tombstone && place(
+                oldRecords[j], oldHashes[j]) == -1) {
+                allRecords = oldRecords;
+                hashes = oldHashes;
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /**
+     * Resizes like resize, but spreads the work over the fork/join common
+     * pool. First every record's home slot in the new table is worked out
+     * in parallel, and each slot counts the records that want it. Records
+     * that have a home slot to themselves are then put there in parallel,
+     * as no other record can want that slot first. The rest are placed one
+     * at a time in the order of the old slots. Every record ends up in the
+     * same slot however many threads there are, but not always in the slot
+     * resize would have given it.
+     * 
+     * @param length
+     *            is the new table length
+     * @return true if the table now has the new length
+     */
+    private boolean resizeParallel(int length) {
         Record[] oldRecords = allRecords;
-        allRecords = new Record[oldRecords.length * 2]; // increase length
-        numberOfRecords = 0;
+        long[] oldHashes = hashes;
+        int[] homes = new int[oldRecords.length];
+        AtomicIntegerArray wanted = new AtomicIntegerArray(length);
+        IntStream.range(0, oldRecords.length).parallel().forEach(j -> {
+            if (oldRecords[j] != null && oldRecords[j] != tombstone) {
+                homes[j] = home(oldHashes[j], length, options);
+                wanted.incrementAndGet(homes[j]);
+            }
+        });
+
+        Record[] records = new Record[length];
+        long[] codes = new long[length];
+        IntStream.range(0, oldRecords.length).parallel().forEach(j -> {
+            if (oldRecords[j] != null && oldRecords[j] != tombstone
+                && wanted.get(homes[j]) == 1) {
+                records[homes[j]] = oldRecords[j];
+                codes[homes[j]] = oldHashes[j];
+            }
+        });
+
+        allRecords = records;
+        hashes = codes;
+        for (int j = 0; j < oldRecords.length; j++) {
+            if (oldRecords[j] != null && oldRecords[j] != tombstone
+                && wanted.get(homes[j]) > 1 && place(oldRecords[j],
+                    oldHashes[j]) == -1) {
+                allRecords = oldRecords;
+                hashes = oldHashes;
+                return false;
+            }
+        }
+        return true;
+    }
+
 
-        for (Record record : oldRecords) {
-            if (record != null && record != tombstone) {
-                insert(record); // Reinsert each existing record using the
-                                // insert method
+    /**
+     * Moves up to count slots of the old table into the current one. The old
+     * slot is left as a tombstone so probes through it keep going. Drops the
+     * old table once every slot has been moved.
+     * 
+     * @param count
+     *            is the most slots to look at
+     */
+    private void migrate(int count) {
+        if (oldRecords == null) {
+            return;
+        }
+        int stop = (int)Math.min(oldRecords.length, (long)migrated + count);
+        for (; migrated < stop; migrated++) {
+            if (oldRecords[migrated] != null
+                && oldRecords[migrated] != tombstone && promote(
+                    migrated) == -1) {
+                return; // the resize was finished by a rehash
             }
         }
+        if (migrated == oldRecords.length) {
+            oldRecords = null;
+            oldHashes = null;
+        }
+    }
+
+
+    /**
+     * Moves one record from the old table into the current one. Quadratic
+     * probing only reaches about half the slots, so the record may find no
+     * free slot; then the rest of the old table is moved in by a rehash.
+     * 
+     * @param old
+     *            is the slot of the record in the old table
+     * @return the slot of the record in the current table, or -1 if the
+     *         resize was finished by a rehash instead
+     */
+    private int promote(int old) {
+        int pos = place(oldRecords[old], oldHashes[old]);
+        if (pos == -1) {
+            finishByRehash();
+            return -1;
+        }
+        oldRecords[old] = tombstone;
+        return pos;
+    }
+
+
+    /**
+     * Ends an incremental resize by moving the records of both tables into
+     * one bigger than the current table, growing it further if some record
+     * cannot reach a free slot
+     */
+    private void finishByRehash() {
+        int length = allRecords.length;
+        Record[] records = Arrays.copyOf(allRecords, length + oldRecords.length
+            - migrated);
+        long[] codes = Arrays.copyOf(hashes, records.length);
+        int count = length;
+        for (int i = migrated; i < oldRecords.length; i++) {
+            if (oldRecords[i] != null && oldRecords[i] != tombstone) {
+                records[count] = oldRecords[i];
+                codes[count] = oldHashes[i];
+                count++;
+            }
+        }
+        oldRecords = null;
+        oldHashes = null;
+        allRecords = records; // only read by the rehash below
+        hashes = codes;
+        rehash(grownLength(length, options));
+    }
+
+
+    /**
+     * Puts a record in the first empty or deleted slot of its probe sequence.
+     * Only used for records that are known not to be in the current table.
+     * 
+     * @param record
+     *            is the record to place
+     * @param code
+     *            is the folded key of the record
+     * @return the slot the record was put in, or -1 if probing never
+     *         reaches a free slot
+     */
+    private int place(Record record, long code) {
+        int home = home(code, allRecords.length, options);
+        int pos = home;
+        for (int i = 0; allRecords[pos] != null
+            && allRecords[pos] != tombstone; i++) {
+            if (i == allRecords.length) {
+                return -1; // probing never reaches a free slot
+            }
+            pos = next(home, i, allRecords.length, options);
+        }
+        allRecords[pos] = record;
+        hashes[pos] = code;
+        return pos;
     }
 
 
@@ -161,23 +695,46 @@ public class Hash {
      *            from record
      */
     public void remove(String key) {
-        int home = h(key, allRecords.length);
-        int pos = home;
+        migrate(options.getMigrationStep());
 
-        for (int i = 0; allRecords[pos] != null && i < allRecords.length; i++) {
-            if (allRecords[pos] != tombstone && key.equals(allRecords[pos]
-                .getKey())) {
-                allRecords[pos] = tombstone; // deleted record
-                numberOfRecords--;
-                return;
-            }
-            pos = (home + (i * i)) % allRecords.length;
+        int pos = find(key);
+        if (pos != -1) {
+            allRecords[pos] = tombstone; // deleted record
+            numberOfRecords--;
+            shrinkIfSparse();
+        }
+    }
+
+
+    /**
+     * Shrinks the table once the share of slots in use drops below the
+     * minimum load factor. The table shrinks by the growth factor but never
+     * below its first length, and only when the smaller table would be at
+     * most half way to its load factor. That gap keeps a table near the
+     * limit from shrinking and growing over and over.
+     */
+    private void shrinkIfSparse() {
+        if (numberOfRecords >= allRecords.length * options
+            .getMinLoadFactor() || allRecords.length <= minLength) {
+            return;
+        }
+        int length = shrunkLength(allRecords.length, minLength, options);
+        if (length >= allRecords.length || numberOfRecords > length * options
+            .getLoadFactor() / 2) {
+            return;
+        }
+        migrate(Integer.MAX_VALUE); // finish any incremental resize first
+        if (resize(length) && filter != null) {
+            rebuildFilter();
         }
     }
 
 
     /**
-     * Finds record in hash table based on key
+     * Finds record in hash table based on key. While an incremental resize is
+     * going on, a record found in the old table is moved over first so the
+     * position is always in the current table. When the Bloom filter knows
+     * the key is missing, no slot is looked at.
      * 
      * @param key
      *            is the record key
@@ -185,24 +742,123 @@ public class Hash {
      * @return position or -1 if not found
      */
     public int find(String key) {
-        int home = h(key, allRecords.length);
+        long code = options.getHashFunction().hash(key);
+        if (filter != null && !filter.mightContain(code)) {
+            filterRejects++;
+            return -1;
+        }
+        int pos = probe(allRecords, hashes, key, code);
+        if (pos == -1 && oldRecords != null) {
+            int old = probe(oldRecords, oldHashes, key, code);
+            if (old != -1) {
+                pos = promote(old);
+                if (pos == -1) { // the resize was finished by a rehash
+                    pos = probe(allRecords, hashes, key, code);
+                }
+            }
+        }
+        if (pos == -1 && filter != null) {
+            falsePositives++;
+        }
+        return pos;
+    }
+
+
+    /**
+     * Counts the slots find looks at for a key in the current table, which
+     * is none when the Bloom filter knows the key is missing
+     * 
+     * @param key
+     *            is the record key
+     * @return number of slots looked at
+     */
+    public int probes(String key) {
+        long code = options.getHashFunction().hash(key);
+        if (filter != null && !filter.mightContain(code)) {
+            return 0;
+        }
+        int home = home(code, allRecords.length, options);
         int pos = home;
+        int count = 1;
 
         for (int i = 0; allRecords[pos] != null && i < allRecords.length; i++) {
-            if (allRecords[pos] != tombstone && key.equals(allRecords[pos]
-                .getKey())) {
+            if (hashes[pos] == code && allRecords[pos] != tombstone && key
+                .equals(allRecords[pos].getKey())) {
+                return count;
+            }
+            pos = next(home, i, allRecords.length, options);
+            count++;
+        }
+        return count;
+    }
+
+
+    /**
+     * Walks the probe sequence of a key in one table
+     * 
+     * @param records
+     *            is the table to look in
+     * @param codes
+     *            is the folded keys of that table
+     * @param key
+     *            is the record key
+     * @param code
+     *            is the folded key
+     * @return position or -1 if not found
+     */
+    private int probe(Record[] records, long[] codes, String key, long code) {
+        int home = home(code, records.length, options);
+        int pos = home;
+
+        for (int i = 0; records[pos] != null && i < records.length; i++) {
+            if (codes[pos] == code && records[pos] != tombstone && key.equals(
+                records[pos].getKey())) {
                 return pos;
             }
-            pos = (home + (i * i)) % allRecords.length; // Quadratic probing
+            pos = next(home, i, records.length, options);
         }
         return -1; // Key not found
     }
 
 
+    /**
+     * Calls action once for every record in the table
+     * 
+     * @param action
+     *            is what to do with each record
+     */
+    public void forEachRecord(Consumer<Record> action) {
+        for (int i = 0; i < allRecords.length; i++) {
+            if (allRecords[i] != null && allRecords[i] != tombstone) {
+                action.accept(allRecords[i]);
+            }
+        }
+        if (oldRecords != null) {
+            for (int i = migrated; i < oldRecords.length; i++) {
+                if (oldRecords[i] != null && oldRecords[i] != tombstone) {
+                    action.accept(oldRecords[i]);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Gives every record a new node index, after the graph was compacted
+     * 
+     * @param map
+     *            is the new index for each old index
+     */
+    public void renumberNodes(int[] map) {
+        forEachRecord(record -> record.setIndex(map[record.getIndex()]));
+    }
+
+
     /**
      * Prints hash table contents
      */
     public void print() {
+        migrate(Integer.MAX_VALUE);
         for (int i = 0; i < allRecords.length; i++) {
             if (allRecords[i] != null && allRecords[i] != tombstone) {
                 System.out.println(i + ": |" + allRecords[i].getKey().trim()
@@ -215,6 +871,50 @@ public class Hash {
     }
 
 
+    /**
+     * Gives the home slot of a folded key in a table. Tables
+     * with triangular probing have a power of two length and use a mask.
+     * 
+     * @param code
+     *            the folded key
+     * @param length
+     *            Length of the table
+     * @param options
+     *            is how the table probes
+     * @return the home slot
+     */
+    static int home(long code, int length, HashOptions options) {
+        if (options.isTriangularProbing()) {
+            return (int)(code & (length - 1));
+        }
+        return slot(code, length);
+    }
+
+
+    /**
+     * Gives the slot looked at after probe step i. Quadratic probing adds
+     * i * i to the home slot. Triangular probing adds 1, 3, 6, 10, ... which
+     * visits every slot of a power of two table in length steps.
+     * 
+     * @param home
+     *            the home slot
+     * @param i
+     *            the probe step, starting at 0
+     * @param length
+     *            Length of the table
+     * @param options
+     *            is how the table probes
+     * @return the next slot to look at
+     */
+    static int next(int home, int i, int length, HashOptions options) {
+        if (options.isTriangularProbing()) {
+            long step = i + 1;
+            return (int)((home + step * (step + 1) / 2) & (length - 1));
+        }
+        return (int)((home + (long)i * i) % length); // Quadratic probing
+    }
+
+
     /**
      * Compute the hash function
      * 
@@ -227,24 +927,137 @@ public class Hash {
      *         The hash function value (the home slot in the table for this key)
      */
     public static int h(String s, int length) {
-        int intLength = s.length() / 4;
+        return h((CharSequence)s, length);
+    }
+
+
+    /**
+     * Compute the hash function for any character sequence. Gives the same
+     * slot as h(String, int) for the same characters.
+     * 
+     * @param s
+     *            The characters that we are hashing
+     * @param length
+     *            Length of the hash table
+     * @return
+     *         The home slot in the table for this key
+     */
+    public static int h(CharSequence s, int length) {
+        return slot(sfold(s), length);
+    }
+
+
+    /**
+     * Turns a folded key into a slot of a table. sfold never gives a
+     * negative sum, but other hash functions can.
+     * 
+     * @param code
+     *            the folded key
+     * @param length
+     *            Length of the hash table
+     * @return the home slot in the table
+     */
+    static int slot(long code, int length) {
+        return (int)Math.floorMod(code, (long)length);
+    }
+
+
+    /**
+     * Compute the hash function over a range of bytes. Each byte is taken as
+     * an unsigned value, so ASCII keys hash to the same slot as their String.
+     * 
+     * @param bytes
+     *            array that holds the key
+     * @param offset
+     *            where the key starts in the array
+     * @param count
+     *            number of bytes in the key
+     * @param length
+     *            Length of the hash table
+     * @return
+     *         The home slot in the table for this key
+     */
+    public static int h(byte[] bytes, int offset, int count, int length) {
+        return slot(sfold(bytes, offset, count), length);
+    }
+
+
+    /**
+     * Compute the hash function over a whole byte array
+     * 
+     * @param bytes
+     *            the key bytes
+     * @param length
+     *            Length of the hash table
+     * @return
+     *         The home slot in the table for this key
+     */
+    public static int h(byte[] bytes, int length) {
+        return h(bytes, 0, bytes.length, length);
+    }
+
+
+    /**
+     * Folds the key four characters at a time into one sum. Walks the
+     * characters in place instead of copying out each block.
+     * 
+     * @param s
+     *            the characters to fold
+     * @return the folded sum before it is reduced to a slot
+     */
+    public static long sfold(CharSequence s) {
         long sum = 0;
-        for (int j = 0; j < intLength; j++) {
-            char[] c = s.substring(j * 4, (j * 4) + 4).toCharArray();
-            long mult = 1;
-            for (int k = 0; k < c.length; k++) {
-                sum += c[k] * mult;
-                mult *= 256;
+        long mult = 1;
+        int count = s.length();
+        for (int k = 0; k < count; k++) {
+            if ((k & 3) == 0) { // start of a new 4 character block
+                mult = 1;
             }
+            sum += s.charAt(k) * mult;
+            mult *= 256;
         }
+        return sum;
+    }
+
 
-        char[] c = s.substring(intLength * 4).toCharArray();
+    /**
+     * Folds a range of bytes the same way sfold(CharSequence) folds chars
+     * 
+     * @param bytes
+     *            array that holds the key
+     * @param offset
+     *            where the key starts in the array
+     * @param count
+     *            number of bytes in the key
+     * @return the folded sum before it is reduced to a slot
+     */
+    public static long sfold(byte[] bytes, int offset, int count) {
+        return sfold(ByteBuffer.wrap(bytes), offset, count);
+    }
+
+
+    /**
+     * Folds a range of a buffer the same way sfold(CharSequence) folds
+     * chars, reading the bytes where they are
+     * 
+     * @param bytes
+     *            buffer that holds the key
+     * @param offset
+     *            where the key starts in the buffer
+     * @param count
+     *            number of bytes in the key
+     * @return the folded sum before it is reduced to a slot
+     */
+    public static long sfold(ByteBuffer bytes, int offset, int count) {
+        long sum = 0;
         long mult = 1;
-        for (int k = 0; k < c.length; k++) {
-            sum += c[k] * mult;
+        for (int k = 0; k < count; k++) {
+            if ((k & 3) == 0) { // start of a new 4 byte block
+                mult = 1;
+            }
+            sum += (bytes.get(offset + k) & 0xFF) * mult;
             mult *= 256;
         }
-
-        return (int)(Math.abs(sum) % length);
+        return sum;
     }
 }
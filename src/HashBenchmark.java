@@ -0,0 +1,246 @@
+// On my honor:
+// - I have not used source code obtained from another current or
+// former student, or any other unauthorized source, either
+// modified or unmodified.
+//
+// - All source code and documentation used in my program is
+// either my original work, or was derived by me from the
+// source code published in the textbook for this course.
+//
+// - I have not discussed coding details about this project with
+// anyone other than my partner (in the case of a joint
+// submission), instructor, ACM/UPE tutors or the TAs assigned
+// to this course. I understand that I may discuss the concepts
+// of this program with other students, and that another student
+// may help me debug my program so long as neither of us writes
+// anything during the discussion or modifies any computer file
+// during the discussion. I have violated neither the spirit nor
+// letter of this restriction.
+import java.util.Random;
+import java.util.function.IntSupplier;
+
+/**
+ * Benchmarks for the record hash tables. Run with
+ * java HashBenchmark [operations] [live-keys] [max-threads]
+ * 
+ * Fills each table with live-keys records and then churns it: every
+ * operation removes a random live key and inserts a new one. Afterwards it
+ * prints the average number of slots find looks at for keys that are there
+ * and for keys that are not, the longest probe for a key that is there, and
+ * how many slots and bytes of slot arrays the table ended up with. The
+ * cuckoo table starts with as many slots as the quadratic one, but it
+ * doubles whenever an insert runs into a cycle and keeps two hashes per
+ * slot, so one more quadratic table is churned with as many bytes as the
+ * cuckoo table ended up with, to compare the two at equal memory.
+ * 
+ * Then it measures how the concurrent table scales: 1, 2, 4 and so on up
+ * to max-threads threads share the operations, mostly lookups with some
+ * removes and inserts, and it prints the operations done per millisecond.
+ *
+ * @author Shruti & Lakshitha
+ * @version 9/19/24
+ */
+public class HashBenchmark {
+
+    /**
+     * Default number of churn operations
+     */
+    public static final int OPERATIONS = 10000000;
+
+    /**
+     * Default number of live keys
+     */
+    public static final int LIVE_KEYS = 100000;
+
+    /**
+     * Bytes per slot of Hash, LinearHash and RobinHoodHash: a compressed
+     * reference to the record and its folded key
+     */
+    public static final int SLOT_BYTES = 4 + 8;
+
+    /**
+     * Bytes per slot of CuckooHash: a compressed reference to the record and
+     * both hashes of its key
+     */
+    public static final int CUCKOO_SLOT_BYTES = 4 + 8 + 8;
+
+    /**
+     * Number of missing keys looked up when measuring misses
+     */
+    private static final int MISSES = 10000;
+
+    /**
+     * Runs the churn benchmark
+     * 
+     * @param args
+     *            optional operation count, live key count and maximum
+     *            number of threads
+     */
+    public static void main(String[] args) {
+        int operations = args.length > 0
+            ? Integer.parseInt(args[0])
+            : OPERATIONS;
+        int live = args.length > 1 ? Integer.parseInt(args[1]) : LIVE_KEYS;
+
+        // four times the live keys so no table grows during the run
+        Hash quadratic = new Hash(live * 4);
+        churn("quadratic", quadratic, () -> quadratic.getAllRecords().length,
+            SLOT_BYTES, operations, live);
+        LinearHash linear = new LinearHash(live * 4);
+        churn("linear", linear, () -> linear.getAllRecords().length,
+            SLOT_BYTES, operations, live);
+        RobinHoodHash robinHood = new RobinHoodHash(live * 4);
+        churn("robin hood", robinHood, () -> robinHood.getAllRecords().length,
+            SLOT_BYTES, operations, live);
+        RobinHoodHash full = new RobinHoodHash(live * 100 / 85 + 1);
+        churn("robin hood 85% full", full, () -> full.getAllRecords().length,
+            SLOT_BYTES, operations, live);
+        // starts as big as quadratic, but cycles grow it, so quadratic runs
+        // again with the memory cuckoo ended up with
+        CuckooHash cuckoo = new CuckooHash(live * 4);
+        churn("cuckoo", cuckoo, () -> 2 * cuckoo.getLength(),
+            CUCKOO_SLOT_BYTES, operations, live);
+        long cuckooBytes = 2L * cuckoo.getLength() * CUCKOO_SLOT_BYTES;
+        Hash equal = new Hash((int)(cuckooBytes / SLOT_BYTES));
+        churn("quadratic at cuckoo memory", equal, () -> equal
+            .getAllRecords().length, SLOT_BYTES, operations, live);
+
+        int maxThreads = args.length > 2
+            ? Integer.parseInt(args[2])
+            : Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            throughput(threads, operations, live);
+        }
+    }
+
+
+    /**
+     * Fills a table, churns it and prints the probe lengths and the number
+     * of slots and their bytes, with the slots it started with if it grew
+     * 
+     * @param name
+     *            is the name printed for the table
+     * @param table
+     *            is the table to churn
+     * @param slots
+     *            counts the slots of the table
+     * @param slotBytes
+     *            is the bytes each slot takes
+     * @param operations
+     *            is the number of remove and insert pairs
+     * @param live
+     *            is the number of keys kept in the table
+     */
+    public static void churn(
+        String name,
+        RecordTable table,
+        IntSupplier slots,
+        int slotBytes,
+        int operations,
+        int live) {
+        int startSlots = slots.getAsInt();
+        Random random = new Random(3114); // same keys for every table
+        String[] keys = new String[live];
+        int next = 0;
+        for (int i = 0; i < live; i++) {
+            keys[i] = "key" + next;
+            table.insert(new Record(keys[i], next, RecordType.SONG));
+            next++;
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < operations; i++) {
+            int victim = random.nextInt(live);
+            table.remove(keys[victim]);
+            keys[victim] = "key" + next;
+            table.insert(new Record(keys[victim], next,
+                RecordType.SONG));
+            next++;
+        }
+        long millis = (System.nanoTime() - start) / 1000000;
+
+        long hitProbes = 0;
+        int maxProbes = 0;
+        for (int i = 0; i < live; i++) {
+            int probes = table.probes(keys[i]);
+            hitProbes += probes;
+            maxProbes = Math.max(maxProbes, probes);
+        }
+        long missProbes = 0;
+        for (int i = 0; i < MISSES; i++) {
+            missProbes += table.probes("missing" + i);
+        }
+        System.out.println(name + ": " + operations + " churn operations in "
+            + millis + " ms");
+        System.out.println(name + ": average hit probes " + (double)hitProbes
+            / live + ", longest " + maxProbes);
+        System.out.println(name + ": average miss probes "
+            + (double)missProbes / MISSES);
+        int endSlots = slots.getAsInt();
+        System.out.println(name + ": " + endSlots + " slots, " + (long)endSlots
+            * slotBytes + " bytes" + (endSlots == startSlots
+                ? ""
+                : ", grew from " + startSlots + " slots"));
+    }
+
+
+    /**
+     * Runs operations on a concurrent table split over several threads and
+     * prints how many were done per millisecond. Each thread looks up random
+     * keys that stay in the table, and one operation in ten removes the key
+     * the thread inserted last and inserts a new one.
+     * 
+     * @param threads
+     *            is the number of threads
+     * @param operations
+     *            is the number of operations over all threads
+     * @param live
+     *            is the number of keys that stay in the table
+     */
+    public static void throughput(int threads, int operations, int live) {
+        ConcurrentHash table = new ConcurrentHash(live * 4, new HashOptions());
+        String[] keys = new String[live];
+        for (int i = 0; i < live; i++) {
+            keys[i] = "key" + i;
+            table.insert(new Record(keys[i], i, RecordType.SONG));
+        }
+
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            workers[t] = new Thread(() -> {
+                Random random = new Random(3114 + id);
+                String last = null;
+                for (int i = id; i < operations; i += threads) {
+                    if (random.nextInt(10) == 0) {
+                        if (last != null) {
+                            table.remove(last);
+                        }
+                        last = "thread" + id + "-" + i;
+                        table.insert(new Record(last, i, RecordType.SONG));
+                    }
+                    else {
+                        table.getRecord(keys[random.nextInt(live)]);
+                    }
+                }
+            });
+        }
+
+        long start = System.nanoTime();
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        try {
+            for (Thread worker : workers) {
+                worker.join();
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        long micros = Math.max(1, (System.nanoTime() - start) / 1000);
+        System.out.println("concurrent " + threads + " threads: "
+            + operations * 1000L / micros + " operations per ms");
+    }
+}
@@ -0,0 +1,65 @@
+// On my honor:
+// - I have not used source code obtained from another current or
+// former student, or any other unauthorized source, either
+// modified or unmodified.
+//
+// - All source code and documentation used in my program is
+// either my original work, or was derived by me from the
+// source code published in the textbook for this course.
+//
+// - I have not discussed coding details about this project with
+// anyone other than my partner (in the case of a joint
+// submission), instructor, ACM/UPE tutors or the TAs assigned
+// to this course. I understand that I may discuss the concepts
+// of this program with other students, and that another student
+// may help me debug my program so long as neither of us writes
+// anything during the discussion or modifies any computer file
+// during the discussion. I have violated neither the spirit nor
+// letter of this restriction.
+import student.TestCase;
+
+/**
+ * Test class for HashBenchmark
+ * 
+ * @author Shruti & Lakshitha
+ * @version 9/19/24
+ */
+public class HashBenchmarkTest extends TestCase {
+
+    /**
+     * Tests a small churn run reports both tables
+     */
+    public void testMain() {
+        HashBenchmark.main(new String[] { "200", "50", "2" });
+        String output = systemOut().getHistory();
+        assertTrue(output.contains("quadratic: 200 churn operations"));
+        assertTrue(output.contains("linear: average hit probes"));
+        assertTrue(output.contains("linear: average miss probes"));
+        assertTrue(output.contains("robin hood 85% full: average hit"));
+        assertTrue(output.contains("cuckoo: average miss probes 2.0"));
+        assertTrue(output.contains("quadratic: 200 slots, 2400 bytes\n"));
+        assertTrue(output.contains("quadratic at cuckoo memory: average"));
+        assertTrue(output.contains("concurrent 1 threads: "));
+        assertTrue(output.contains("concurrent 2 threads: "));
+        assertFalse(output.contains("concurrent 4 threads"));
+    }
+
+
+    /**
+     * Tests churn keeps the number of records steady and prints the slots
+     */
+    public void testChurn() {
+        LinearHash table = new LinearHash(64);
+        HashBenchmark.churn("test", table, () -> table.getAllRecords().length,
+            12, 100, 10);
+        assertEquals(10, table.getNumberOfRecords());
+        assertTrue(systemOut().getHistory().contains(
+            "test: 64 slots, 768 bytes\n"));
+
+        LinearHash small = new LinearHash(8);
+        HashBenchmark.churn("small", small, () -> small.getAllRecords().length,
+            12, 100, 10);
+        assertTrue(systemOut().getHistory().contains(
+            "small: 32 slots, 384 bytes, grew from 8 slots\n"));
+    }
+}
@@ -0,0 +1,44 @@
+// On my honor:
+// - I have not used source code obtained from another current or
+// former student, or any other unauthorized source, either
+// modified or unmodified.
+//
+// - All source code and documentation used in my program is
+// either my original work, or was derived by me from the
+// source code published in the textbook for this course.
+//
+// - I have not discussed coding details about this project with
+// anyone other than my partner (in the case of a joint
+// submission), instructor, ACM/UPE tutors or the TAs assigned
+// to this course. I understand that I may discuss the concepts
+// of this program with other students, and that another student
+// may help me debug my program so long as neither of us writes
+// anything during the discussion or modifies any computer file
+// during the discussion. I have violated neither the spirit nor
+// letter of this restriction.
+/**
+ * A hash function for record keys. Tables that take HashOptions fold their
+ * keys with the function the options give, sfold unless set otherwise.
+ * Every table in one program run must keep the same function, because the
+ * folded keys are cached and compared.
+ *
+ * @author Shruti & Lakshitha
+ * @version 9/19/24
+ */
+public interface HashFunction {
+
+    /**
+     * The original function, Hash.sfold. Tables using it put every record
+     * in the same slot as before.
+     */
+    public static final HashFunction SFOLD = Hash::sfold;
+
+    /**
+     * Hashes a key
+     * 
+     * @param key
+     *            the characters to hash
+     * @return the hash before it is reduced to a slot
+     */
+    public long hash(CharSequence key);
+}
@@ -0,0 +1,399 @@
+// On my honor:
+// - I have not used source code obtained from another current or
+// former student, or any other unauthorized source, either
+// modified or unmodified.
+//
+// - All source code and documentation used in my program is
+// either my original work, or was derived by me from the
+// source code published in the textbook for this course.
+//
+// - I have not discussed coding details about this project with
+// anyone other than my partner (in the case of a joint
+// submission), instructor, ACM/UPE tutors or the TAs assigned
+// to this course. I understand that I may discuss the concepts
+// of this program with other students, and that another student
+// may help me debug my program so long as neither of us writes
+// anything during the discussion or modifies any computer file
+// during the discussion. I have violated neither the spirit nor
+// letter of this restriction.
+/**
+ * Options for a hash table. The defaults give the original table: it
+ * doubles in one step when it gets more than half full. The load factor,
+ * growth factor and maximum capacity also set how the graph grows, and the
+ * minimum load factor sets when the tables shrink and the graph compacts.
+ *
+ * @author Shruti & Lakshitha
+ * @version 9/19/24
+ */
+public class HashOptions {
+
+    /**
+     * private fields
+     */
+    private boolean incrementalResize; // move records a few at a time
+    private int migrationStep; // old slots moved per operation
+    private boolean triangularProbing; // power of two length, mask probing
+    private double loadFactor; // fraction of slots in use before growing
+    private double growthFactor; // how many times bigger a grown table is
+    private int maxCapacity; // largest table length
+    private int parallelThreshold; // shortest table resized in parallel
+    private double minLoadFactor; // fraction of slots in use before shrinking
+    private TableLayout layout; // how the controller stores its tables
+    private boolean keyReport; // print what sharing keys saved
+    private HashFunction hashFunction; // how keys are folded
+    private int bloomBitsPerKey; // filter bits per record, 0 for no filter
+    private boolean edgeIndex; // graph keeps a set of its edges
+
+    /**
+     * Constructor method that sets up the default options
+     */
+    public HashOptions() {
+        this.incrementalResize = false;
+        this.migrationStep = 16;
+        this.triangularProbing = false;
+        this.loadFactor = 0.5;
+        this.growthFactor = 2.0;
+        this.maxCapacity = Integer.MAX_VALUE;
+        this.parallelThreshold = Integer.MAX_VALUE;
+        this.minLoadFactor = 0;
+        this.layout = TableLayout.RECORDS;
+        this.keyReport = false;
+        this.hashFunction = HashFunction.SFOLD;
+        this.bloomBitsPerKey = 0;
+        this.edgeIndex = false;
+    }
+
+
+    /**
+     * Get method for incremental resizing
+     * 
+     * @return true if the table resizes a few slots at a time
+     */
+    public boolean isIncrementalResize() {
+        return incrementalResize;
+    }
+
+
+    /**
+     * Set method for incremental resizing. When on, a growing table keeps
+     * the old array and moves a few of its slots on every insert and remove
+     * instead of re-inserting everything at once.
+     * 
+     * @param incrementalResize
+     *            true to resize a few slots at a time
+     */
+    public void setIncrementalResize(boolean incrementalResize) {
+        this.incrementalResize = incrementalResize;
+    }
+
+
+    /**
+     * Get method for the migration step
+     * 
+     * @return number of old slots moved per operation
+     */
+    public int getMigrationStep() {
+        return migrationStep;
+    }
+
+
+    /**
+     * Set method for the migration step
+     * 
+     * @param migrationStep
+     *            number of old slots moved per operation, at least 1
+     */
+    public void setMigrationStep(int migrationStep) {
+        if (migrationStep < 1) {
+            throw new IllegalArgumentException(
+                "migration step must be at least 1");
+        }
+        this.migrationStep = migrationStep;
+    }
+
+
+    /**
+     * Get method for triangular probing
+     * 
+     * @return true if the table uses triangular probing
+     */
+    public boolean isTriangularProbing() {
+        return triangularProbing;
+    }
+
+
+    /**
+     * Set method for triangular probing. When on, the table length is
+     * rounded up to a power of two and probing steps by 1, 2, 3, ... so
+     * every insert finds a free slot.
+     * 
+     * @param triangularProbing
+     *            true to use triangular probing
+     */
+    public void setTriangularProbing(boolean triangularProbing) {
+        this.triangularProbing = triangularProbing;
+    }
+
+
+    /**
+     * Get method for the load factor
+     * 
+     * @return fraction of slots in use before the table grows
+     */
+    public double getLoadFactor() {
+        return loadFactor;
+    }
+
+
+    /**
+     * Set method for the load factor
+     * 
+     * @param loadFactor
+     *            fraction of slots in use before the table grows, more than
+     *            0 and less than 1
+     */
+    public void setLoadFactor(double loadFactor) {
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException(
+                "load factor must be between 0 and 1");
+        }
+        this.loadFactor = loadFactor;
+    }
+
+
+    /**
+     * Get method for the growth factor
+     * 
+     * @return how many times bigger a grown table is
+     */
+    public double getGrowthFactor() {
+        return growthFactor;
+    }
+
+
+    /**
+     * Set method for the growth factor
+     * 
+     * @param growthFactor
+     *            how many times bigger a grown table is, more than 1
+     */
+    public void setGrowthFactor(double growthFactor) {
+        if (!(growthFactor > 1)) {
+            throw new IllegalArgumentException(
+                "growth factor must be more than 1");
+        }
+        this.growthFactor = growthFactor;
+    }
+
+
+    /**
+     * Get method for the maximum capacity
+     * 
+     * @return largest table length
+     */
+    public int getMaxCapacity() {
+        return maxCapacity;
+    }
+
+
+    /**
+     * Set method for the maximum capacity. A table at this length stops
+     * growing and fills past its load factor instead.
+     * 
+     * @param maxCapacity
+     *            largest table length, at least 1
+     */
+    public void setMaxCapacity(int maxCapacity) {
+        if (maxCapacity < 1) {
+            throw new IllegalArgumentException(
+                "maximum capacity must be at least 1");
+        }
+        this.maxCapacity = maxCapacity;
+    }
+
+
+    /**
+     * Get method for the minimum load factor
+     * 
+     * @return fraction of slots in use before the table shrinks, 0 if it
+     *         never shrinks
+     */
+    public double getMinLoadFactor() {
+        return minLoadFactor;
+    }
+
+
+    /**
+     * Set method for the minimum load factor. A table with fewer records
+     * than this shrinks after a remove. Something well under half the load
+     * factor, such as 0.125 with the default load factor, keeps tables
+     * from shrinking and growing over and over.
+     * 
+     * @param minLoadFactor
+     *            fraction of slots in use before the table shrinks, at least
+     *            0 and less than 1; 0 turns shrinking off
+     */
+    public void setMinLoadFactor(double minLoadFactor) {
+        if (!(minLoadFactor >= 0 && minLoadFactor < 1)) {
+            throw new IllegalArgumentException(
+                "minimum load factor must be at least 0 and less than 1");
+        }
+        this.minLoadFactor = minLoadFactor;
+    }
+
+
+    /**
+     * Get method for the parallel threshold
+     * 
+     * @return the shortest table that resizes in parallel
+     */
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+
+    /**
+     * Set method for the parallel threshold. A Hash with at least this many
+     * slots resizes on all cores. Its records may then sit in other slots
+     * than a one core resize gives, so printed tables differ, though they
+     * are the same on every run. Incremental resizing does not use it.
+     * 
+     * @param parallelThreshold
+     *            the shortest table to resize in parallel, at least 1
+     */
+    public void setParallelThreshold(int parallelThreshold) {
+        if (parallelThreshold < 1) {
+            throw new IllegalArgumentException(
+                "parallel threshold must be at least 1");
+        }
+        this.parallelThreshold = parallelThreshold;
+    }
+
+
+    /**
+     * Get method for the table layout
+     * 
+     * @return how the controller stores its tables
+     */
+    public TableLayout getLayout() {
+        return layout;
+    }
+
+
+    /**
+     * Set method for the table layout. RECORDS keeps one Record per slot.
+     * COMPACT keeps node indexes and folded keys in parallel arrays and the
+     * key bytes of both tables in one off heap KeyArena. DENSE keeps the
+     * records in insertion order behind an int index, so going over them
+     * skips no empty slots.
+     * 
+     * @param layout
+     *            how the controller stores its tables
+     */
+    public void setLayout(TableLayout layout) {
+        if (layout == null) {
+            throw new IllegalArgumentException("layout is missing");
+        }
+        this.layout = layout;
+    }
+
+
+    /**
+     * Get method for the key report
+     * 
+     * @return true if the program prints what sharing keys saved
+     */
+    public boolean isKeyReport() {
+        return keyReport;
+    }
+
+
+    /**
+     * Set method for the key report. When on, the program prints how many
+     * keys the artist and song tables share and the bytes that saved, after
+     * the last command.
+     * 
+     * @param keyReport
+     *            true to print the key report
+     */
+    public void setKeyReport(boolean keyReport) {
+        this.keyReport = keyReport;
+    }
+
+
+    /**
+     * Get method for the hash function
+     * 
+     * @return the function that folds keys
+     */
+    public HashFunction getHashFunction() {
+        return hashFunction;
+    }
+
+
+    /**
+     * Set method for the hash function. Only the default, sfold, gives the
+     * slots in the expected output; the others are for catalogs whose keys
+     * collide under sfold.
+     * 
+     * @param hashFunction
+     *            the function that folds keys
+     */
+    public void setHashFunction(HashFunction hashFunction) {
+        if (hashFunction == null) {
+            throw new IllegalArgumentException("hash function is missing");
+        }
+        this.hashFunction = hashFunction;
+    }
+
+
+    /**
+     * Get method for the Bloom filter size
+     * 
+     * @return filter bits per record, 0 when tables have no filter
+     */
+    public int getBloomBitsPerKey() {
+        return bloomBitsPerKey;
+    }
+
+
+    /**
+     * Set method for the Bloom filter size. With a filter a Hash answers
+     * most lookups of missing keys without probing. Ten bits per record
+     * lets about one miss in a hundred through.
+     * 
+     * @param bloomBitsPerKey
+     *            filter bits per record, from 0 to 64; 0 turns the filter
+     *            off
+     */
+    public void setBloomBitsPerKey(int bloomBitsPerKey) {
+        if (bloomBitsPerKey < 0 || bloomBitsPerKey > 64) {
+            throw new IllegalArgumentException(
+                "bloom filter bits per key must be from 0 to 64");
+        }
+        this.bloomBitsPerKey = bloomBitsPerKey;
+    }
+
+
+    /**
+     * Get method for the edge index
+     * 
+     * @return true if the graph keeps a set of its edges
+     */
+    public boolean isEdgeIndex() {
+        return edgeIndex;
+    }
+
+
+    /**
+     * Set method for the edge index. When on, the graph keeps its edges in
+     * a set as well, so checking for a duplicate edge does not depend on
+     * how many songs the artist has.
+     * 
+     * @param edgeIndex
+     *            true to keep the edge index
+     */
+    public void setEdgeIndex(boolean edgeIndex) {
+        this.edgeIndex = edgeIndex;
+    }
+}
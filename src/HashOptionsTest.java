@@ -0,0 +1,178 @@
+// On my honor:
+// - I have not used source code obtained from another current or
+// former student, or any other unauthorized source, either
+// modified or unmodified.
+//
+// - All source code and documentation used in my program is
+// either my original work, or was derived by me from the
+// source code published in the textbook for this course.
+//
+// - I have not discussed coding details about this project with
+// anyone other than my partner (in the case of a joint
+// submission), instructor, ACM/UPE tutors or the TAs assigned
+// to this course. I understand that I may discuss the concepts
+// of this program with other students, and that another student
+// may help me debug my program so long as neither of us writes
+// anything during the discussion or modifies any computer file
+// during the discussion. I have violated neither the spirit nor
+// letter of this restriction.
+import student.TestCase;
+
+/**
+ * class to test HashOptions.java
+ * 
+ * @author Shruti & Lakshitha
+ * @version 9/19/24
+ */
+public class HashOptionsTest extends TestCase {
+    // ~ Fields ................................................................
+    /*
+     * the options under test
+     */
+    private HashOptions options;
+
+    // ~Public Methods ........................................................
+    /**
+     * Sets up the testing methods
+     */
+    public void setUp() {
+        options = new HashOptions();
+    }
+
+
+    /**
+     * Tests the defaults match the original table
+     */
+    public void testDefaults() {
+        assertFalse(options.isIncrementalResize());
+        assertEquals(16, options.getMigrationStep());
+        assertFalse(options.isTriangularProbing());
+        assertEquals(0.5, options.getLoadFactor(), 0.0);
+        assertEquals(2.0, options.getGrowthFactor(), 0.0);
+        assertEquals(Integer.MAX_VALUE, options.getMaxCapacity());
+        assertEquals(0.0, options.getMinLoadFactor(), 0.0);
+        assertEquals(TableLayout.RECORDS, options.getLayout());
+        assertFalse(options.isKeyReport());
+        assertSame(HashFunction.SFOLD, options.getHashFunction());
+        assertEquals(0, options.getBloomBitsPerKey());
+        assertFalse(options.isEdgeIndex());
+        assertEquals(Hash.sfold("hokies"), options.getHashFunction().hash(
+            "hokies"));
+    }
+
+
+    /**
+     * Tests setIncrementalResize and setMigrationStep
+     */
+    public void testSetters() {
+        options.setIncrementalResize(true);
+        options.setMigrationStep(3);
+        assertTrue(options.isIncrementalResize());
+        assertEquals(3, options.getMigrationStep());
+        options.setTriangularProbing(true);
+        assertTrue(options.isTriangularProbing());
+        options.setLoadFactor(0.8);
+        options.setGrowthFactor(1.5);
+        options.setMaxCapacity(100);
+        assertEquals(0.8, options.getLoadFactor(), 0.0);
+        assertEquals(1.5, options.getGrowthFactor(), 0.0);
+        assertEquals(100, options.getMaxCapacity());
+        options.setMinLoadFactor(0.125);
+        assertEquals(0.125, options.getMinLoadFactor(), 0.0);
+        options.setLayout(TableLayout.DENSE);
+        assertEquals(TableLayout.DENSE, options.getLayout());
+        options.setKeyReport(true);
+        assertTrue(options.isKeyReport());
+        options.setEdgeIndex(true);
+        assertTrue(options.isEdgeIndex());
+        MixHash mix = new MixHash(1);
+        options.setHashFunction(mix);
+        assertSame(mix, options.getHashFunction());
+        Exception thrown = null;
+        try {
+            options.setHashFunction(null);
+        }
+        catch (IllegalArgumentException e) {
+            thrown = e;
+        }
+        assertNotNull(thrown);
+        options.setBloomBitsPerKey(10);
+        assertEquals(10, options.getBloomBitsPerKey());
+        for (int bits : new int[] { -1, 65 }) {
+            thrown = null;
+            try {
+                options.setBloomBitsPerKey(bits);
+            }
+            catch (IllegalArgumentException e) {
+                thrown = e;
+            }
+            assertNotNull(thrown);
+        }
+        assertEquals(10, options.getBloomBitsPerKey());
+    }
+
+
+    /**
+     * Tests a migration step below one is rejected
+     */
+    public void testBadMigrationStep() {
+        Exception thrown = null;
+        try {
+            options.setMigrationStep(0);
+        }
+        catch (IllegalArgumentException e) {
+            thrown = e;
+        }
+        assertNotNull(thrown);
+        assertEquals(16, options.getMigrationStep());
+
+        thrown = null;
+        try {
+            options.setParallelThreshold(0);
+        }
+        catch (IllegalArgumentException e) {
+            thrown = e;
+        }
+        assertNotNull(thrown);
+        assertEquals(Integer.MAX_VALUE, options.getParallelThreshold());
+        options.setParallelThreshold(1024);
+        assertEquals(1024, options.getParallelThreshold());
+    }
+
+
+    /**
+     * Tests out of range growth settings are rejected
+     */
+    public void testBadGrowthSettings() {
+        int rejected = 0;
+        double[] loads = { 0, 1, -0.5, Double.NaN };
+        for (double load : loads) {
+            try {
+                options.setLoadFactor(load);
+            }
+            catch (IllegalArgumentException e) {
+                rejected++;
+            }
+        }
+        try {
+            options.setGrowthFactor(1.0);
+        }
+        catch (IllegalArgumentException e) {
+            rejected++;
+        }
+        try {
+            options.setMaxCapacity(0);
+        }
+        catch (IllegalArgumentException e) {
+            rejected++;
+        }
+        try {
+            options.setMinLoadFactor(1);
+        }
+        catch (IllegalArgumentException e) {
+            rejected++;
+        }
+        assertEquals(7, rejected);
+        assertEquals(0.5, options.getLoadFactor(), 0.0);
+    }
+}
@@ -0,0 +1,178 @@
+// On my honor:
+// - I have not used source code obtained from another current or
+// former student, or any other unauthorized source, either
+// modified or unmodified.
+//
+// - All source code and documentation used in my program is
+// either my original work, or was derived by me from the
+// source code published in the textbook for this course.
+//
+// - I have not discussed coding details about this project with
+// anyone other than my partner (in the case of a joint
+// submission), instructor, ACM/UPE tutors or the TAs assigned
+// to this course. I understand that I may discuss the concepts
+// of this program with other students, and that another student
+// may help me debug my program so long as neither of us writes
+// anything during the discussion or modifies any computer file
+// during the discussion. I have violated neither the spirit nor
+// letter of this restriction.
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collision and probe length report for the hash functions. Run with
+ * java HashReport hash-size command-file [hash ...]
+ * 
+ * Replays the insert and remove commands of a command file on an artist
+ * and a song table for each hash function, named as for the --hash flag,
+ * and prints for each table how many keys share their full hash with
+ * another key, how many are not in their home slot, and the average and
+ * longest probe for a key that is there.
+ *
+ * @author Shruti & Lakshitha
+ * @version 9/19/24
+ */
+public class HashReport {
+
+    /**
+     * Hash functions reported when none are named, with fixed seeds so the
+     * report is the same every run
+     */
+    public static final String[] HASHES = { "sfold", "mix:3114",
+        "sip:3114" };
+
+    /**
+     * Prints the report
+     * 
+     * @param args
+     *            hash table size, command file and optional hash functions
+     * @throws IOException
+     *             if the command file cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        int size = Integer.parseInt(args[0]);
+        List<String> lines = Files.readAllLines(Paths.get(args[1]));
+        String[] hashes = args.length > 2
+            ? Arrays.copyOfRange(args, 2, args.length)
+            : HASHES;
+        for (String spec : hashes) {
+            report(spec, GraphProject.hashFunction(spec), size, lines);
+        }
+    }
+
+
+    /**
+     * Replays the commands with one hash function and prints its report
+     * 
+     * @param name
+     *            is the name printed for the hash function
+     * @param function
+     *            is the hash function
+     * @param size
+     *            is the initial size of the tables
+     * @param lines
+     *            are the lines of the command file
+     */
+    public static void report(
+        String name,
+        HashFunction function,
+        int size,
+        List<String> lines) {
+        HashOptions options = new HashOptions();
+        options.setHashFunction(function);
+        Hash artists = new Hash(size, options);
+        Hash songs = new Hash(size, options);
+
+        PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        try { // growth messages are not part of the report
+            replay(lines, artists, songs);
+        }
+        finally {
+            System.setOut(originalOut);
+        }
+        describe(name + " artist", artists, function);
+        describe(name + " song", songs, function);
+    }
+
+
+    /**
+     * Runs the insert and remove commands on the tables, trimming names the
+     * way the controller does
+     * 
+     * @param lines
+     *            are the lines of the command file
+     * @param artists
+     *            is the artist table
+     * @param songs
+     *            is the song table
+     */
+    private static void replay(List<String> lines, Hash artists, Hash songs) {
+        for (String line : lines) {
+            if (line.startsWith("insert ")) {
+                String[] names = line.substring(7).split("<SEP>");
+                artists.findOrInsert(names[0].trim(), key -> new Record(key,
+                    0, RecordType.ARTIST));
+                songs.findOrInsert(names[1].trim(), key -> new Record(key, 0,
+                    RecordType.SONG));
+            }
+            else if (line.startsWith("remove artist ")) {
+                artists.remove(line.substring(14).trim());
+            }
+            else if (line.startsWith("remove song ")) {
+                songs.remove(line.substring(12).trim());
+            }
+        }
+    }
+
+
+    /**
+     * Prints the collisions and probe lengths of one table
+     * 
+     * @param name
+     *            is the name printed for the table
+     * @param table
+     *            is the table
+     * @param function
+     *            is the hash function of the table
+     */
+    private static void describe(
+        String name,
+        Hash table,
+        HashFunction function) {
+        Map<Long, Integer> codes = new HashMap<>();
+        table.forEachRecord(record -> codes.merge(function.hash(record
+            .getKey()), 1, Integer::sum));
+        int[] shared = new int[1];
+        int[] away = new int[1];
+        long[] probes = new long[1];
+        int[] longest = new int[1];
+        table.forEachRecord(record -> {
+            String key = record.getKey();
+            if (codes.get(function.hash(key)) > 1) {
+                shared[0]++;
+            }
+            int count = table.probes(key);
+            if (count > 1) {
+                away[0]++;
+            }
+            probes[0] += count;
+            longest[0] = Math.max(longest[0], count);
+        });
+
+        int keys = table.getNumberOfRecords();
+        System.out.println(name + ": " + keys + " keys in " + table
+            .getAllRecords().length + " slots, " + shared[0]
+            + " share a hash with another key");
+        System.out.println(name + ": " + away[0] + " away from home, "
+            + "average probes " + (keys == 0 ? 0.0 : (double)probes[0] / keys)
+            + ", longest " + longest[0]);
+    }
+}
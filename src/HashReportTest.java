@@ -0,0 +1,77 @@
+// On my honor:
+// - I have not used source code obtained from another current or
+// former student, or any other unauthorized source, either
+// modified or unmodified.
+//
+// - All source code and documentation used in my program is
+// either my original work, or was derived by me from the
+// source code published in the textbook for this course.
+//
+// - I have not discussed coding details about this project with
+// anyone other than my partner (in the case of a joint
+// submission), instructor, ACM/UPE tutors or the TAs assigned
+// to this course. I understand that I may discuss the concepts
+// of this program with other students, and that another student
+// may help me debug my program so long as neither of us writes
+// anything during the discussion or modifies any computer file
+// during the discussion. I have violated neither the spirit nor
+// letter of this restriction.
+import student.TestCase;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test class for HashReport
+ * 
+ * @author Shruti & Lakshitha
+ * @version 9/19/24
+ */
+public class HashReportTest extends TestCase {
+
+    /**
+     * Tests the report over the sample commands names every hash function
+     * 
+     * @throws Exception
+     */
+    public void testMain() throws Exception {
+        HashReport.main(new String[] { "10", "src/P1_sampleInput.txt" });
+        String output = systemOut().getHistory();
+        assertTrue(output.contains("sfold artist: "));
+        assertTrue(output.contains("mix:3114 song: "));
+        assertTrue(output.contains("sip:3114 song: "));
+        assertFalse(output.contains("doubled"));
+
+        systemOut().clearHistory();
+        HashReport.main(new String[] { "10", "src/P1_sampleInput.txt",
+            "mix:1" });
+        assertFalse(systemOut().getHistory().contains("sfold"));
+    }
+
+
+    /**
+     * Tests sfold collisions show up in the report and a mixing hash has
+     * none
+     */
+    public void testCollisions() {
+        List<String> lines = new ArrayList<>();
+        lines.add("insert abcdefgh<SEP>song one");
+        lines.add("insert efghabcd<SEP>song two");
+        lines.add("insert ghefcdab<SEP>song three");
+        lines.add("insert Gone<SEP>song four");
+        lines.add("remove artist Gone");
+        lines.add("remove song song four");
+        lines.add("print graph");
+
+        HashReport.report("sfold", HashFunction.SFOLD, 16, lines);
+        String output = systemOut().getHistory();
+        assertTrue(output.contains(
+            "sfold artist: 3 keys in 16 slots, 2 share a hash"));
+        assertTrue(output.contains(
+            "sfold song: 3 keys in 16 slots, 0 share a hash"));
+
+        systemOut().clearHistory();
+        HashReport.report("mix", new MixHash(7), 16, lines);
+        assertTrue(systemOut().getHistory().contains(
+            "mix artist: 3 keys in 16 slots, 0 share a hash"));
+    }
+}
@@ -20,6 +20,10 @@
 import student.TestCase;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
 
 /**
  * @author <Put something here>
@@ -29,8 +33,8 @@ public class HashTest extends TestCase {
     private Hash hash;
     private Record record;
     private Record record2;
-    private Node node;
-    private Node node2;
+    private int node;
+    private int node2;
 
     /**
      * Sets up the tests that follow. In general, used for initialization
@@ -38,11 +42,11 @@ public class HashTest extends TestCase {
     public void setUp() {
         hash = new Hash(10);
 
-        node = new Node(2);
-        node2 = new Node(3);
+        node = 2;
+        node2 = 3;
 
-        record = new Record("hokies", node, "artist");
-        record2 = new Record("wassup", node2, "artist");
+        record = new Record("hokies", node, RecordType.ARTIST);
+        record2 = new Record("wassup", node2, RecordType.ARTIST);
     }
 
 
@@ -50,8 +54,8 @@ public class HashTest extends TestCase {
      * Tests insert method
      */
     public void testInsert() {
-        Node node5 = new Node(2);
-        Record record5 = new Record("hokiesssss", node5, "artist");
+        int node5 = 2;
+        Record record5 = new Record("hokiesssss", node5, RecordType.ARTIST);
 
         hash.insert(record);
         hash.insert(record5);
@@ -60,8 +64,8 @@ public class HashTest extends TestCase {
         Record[] allRecords = hash.getAllRecords();
         assertEquals("hokies", allRecords[index].getKey());
 
-        Node node6 = new Node(4);
-        Record record6 = new Record("hello", node6, "artist");
+        int node6 = 4;
+        Record record6 = new Record("hello", node6, RecordType.ARTIST);
         hash.insert(record6);
     }
 
@@ -70,11 +74,11 @@ public class HashTest extends TestCase {
      * Tests inserting the same record again
      */
     public void testInsertSame() {
-        Node node5 = new Node(4);
-        Record record5 = new Record("testing", node5, "artist");
+        int node5 = 4;
+        Record record5 = new Record("testing", node5, RecordType.ARTIST);
 
-        Node node6 = new Node(4);
-        Record record6 = new Record("hello", node6, "artist");
+        int node6 = 4;
+        Record record6 = new Record("hello", node6, RecordType.ARTIST);
 
         hash.insert(record5);
         hash.insert(record6);
@@ -89,25 +93,25 @@ public class HashTest extends TestCase {
      * Test the rehash method to see if the hash size doubles
      */
     public void testRehash() {
-        Node node5 = new Node(4);
-        Record record5 = new Record("one", node5, "artist");
+        int node5 = 4;
+        Record record5 = new Record("one", node5, RecordType.ARTIST);
 
-        Node node6 = new Node(4);
-        Record record6 = new Record("two", node6, "artist");
+        int node6 = 4;
+        Record record6 = new Record("two", node6, RecordType.ARTIST);
 
-        Node node7 = new Node(4);
-        Record record7 = new Record("three", node7, "artist");
+        int node7 = 4;
+        Record record7 = new Record("three", node7, RecordType.ARTIST);
 
-        Node node8 = new Node(4);
-        Record record8 = new Record("four", node8, "artist");
+        int node8 = 4;
+        Record record8 = new Record("four", node8, RecordType.ARTIST);
 
-        Node node9 = new Node(4);
-        Record record9 = new Record("five", node9, "artist");
+        int node9 = 4;
+        Record record9 = new Record("five", node9, RecordType.ARTIST);
 
-        Record record10 = new Record("six", node9, "artist");
+        Record record10 = new Record("six", node9, RecordType.ARTIST);
 
-        Node node11 = new Node(7);
-        Record record11 = new Record("seven", node11, "artist");
+        int node11 = 7;
+        Record record11 = new Record("seven", node11, RecordType.ARTIST);
 
         hash.insert(record5);
         hash.insert(record6);
@@ -197,7 +201,7 @@ public class HashTest extends TestCase {
             expectedOutput = "3: TOMBSTONE";
             assertEquals(expectedOutput, outputStream.toString().trim());
 
-            record2 = new Record("test", new Node(2), "artist");
+            record2 = new Record("test", 2, RecordType.ARTIST);
             hash.insert(record2);
             outputStream.reset();
             hash.print();
@@ -216,8 +220,8 @@ public class HashTest extends TestCase {
      */
     public void testRehashing0() {
         for (int i = 0; i < 6; i++) {
-            node = new Node(i);
-            record = new Record("key" + i, node, "artist");
+            node = i;
+            record = new Record("key" + i, node, RecordType.ARTIST);
             hash.insert(record);
         }
 
@@ -225,8 +229,9 @@ public class HashTest extends TestCase {
             assertNotNull(hash.getRecord("key" + i));
         }
 
-        Node nodeExtra = new Node(7);
-        Record recordExtra = new Record("keyExtra", nodeExtra, "artist");
+        int nodeExtra = 7;
+        Record recordExtra = new Record("keyExtra", nodeExtra,
+            RecordType.ARTIST);
         hash.insert(recordExtra);
 
         for (int i = 0; i < 6; i++) {
@@ -258,8 +263,8 @@ public class HashTest extends TestCase {
      * Tests find with a collision to trigger quadratic probing
      */
     public void testCollision() {
-        Record record1 = new Record("key1", new Node(1), "artist");
-        record2 = new Record("key1Collide", new Node(2), "artist");
+        Record record1 = new Record("key1", 1, RecordType.ARTIST);
+        record2 = new Record("key1Collide", 2, RecordType.ARTIST);
 
         hash.insert(record1);
         hash.insert(record2);
@@ -280,9 +285,9 @@ public class HashTest extends TestCase {
      * Tests find with many collisions
      */
     public void testFindCollisions() {
-        hash.insert(new Record("collision1", new Node(1), "song"));
-        hash.insert(new Record("collision2", new Node(2), "song"));
-        hash.insert(new Record("collision3", new Node(3), "song"));
+        hash.insert(new Record("collision1", 1, RecordType.SONG));
+        hash.insert(new Record("collision2", 2, RecordType.SONG));
+        hash.insert(new Record("collision3", 3, RecordType.SONG));
 
         int index1 = hash.find("collision1");
         int index2 = hash.find("collision2");
@@ -303,9 +308,9 @@ public class HashTest extends TestCase {
      */
     public void testQuadProbing() {
         for (int i = 0; i < hash.getAllRecords().length / 2; i++) {
-            hash.insert(new Record("key" + i, new Node(i), "artist"));
+            hash.insert(new Record("key" + i, i, RecordType.ARTIST));
         }
-        hash.insert(new Record("wrapAroundKey", new Node(100), "artist"));
+        hash.insert(new Record("wrapAroundKey", 100, RecordType.ARTIST));
 
         int index = hash.find("wrapAroundKey");
         assertTrue(index >= 0);
@@ -318,7 +323,7 @@ public class HashTest extends TestCase {
      */
     public void testFindWithFullTable() {
         for (int i = 0; i < hash.getAllRecords().length / 2; i++) {
-            hash.insert(new Record("key" + i, new Node(i), "song"));
+            hash.insert(new Record("key" + i, i, RecordType.SONG));
         }
 
         int index = hash.find("key" + (hash.getAllRecords().length / 2 - 2));
@@ -336,12 +341,12 @@ public class HashTest extends TestCase {
      * Tests find with a tombstone
      */
     public void testTombstones0() {
-        hash.insert(new Record("toBeRemoved1", new Node(1), "artist"));
-        hash.insert(new Record("toBeRemoved2", new Node(2), "artist"));
+        hash.insert(new Record("toBeRemoved1", 1, RecordType.ARTIST));
+        hash.insert(new Record("toBeRemoved2", 2, RecordType.ARTIST));
         hash.remove("toBeRemoved1");
         hash.remove("toBeRemoved2");
 
-        hash.insert(new Record("newKeyAfterTombstones", new Node(3), "artist"));
+        hash.insert(new Record("newKeyAfterTombstones", 3, RecordType.ARTIST));
 
         int index = hash.find("newKeyAfterTombstones");
         assertTrue(index >= 0);
@@ -360,12 +365,12 @@ public class HashTest extends TestCase {
 
         try {
             for (int i = 0; i < hash.getAllRecords().length / 2; i++) {
-                hash.insert(new Record("song" + i, new Node(i), "song"));
+                hash.insert(new Record("song" + i, i, RecordType.SONG));
             }
 
             outputStream.reset();
 
-            hash.insert(new Record("testSong", new Node(1), "song"));
+            hash.insert(new Record("testSong", 1, RecordType.SONG));
 
             String output = outputStream.toString().trim();
             assertTrue(output.contains("Song hash table size doubled."));
@@ -386,12 +391,12 @@ public class HashTest extends TestCase {
 
         try {
             for (int i = 0; i < hash.getAllRecords().length / 2; i++) {
-                hash.insert(new Record("artist" + i, new Node(i), "artist"));
+                hash.insert(new Record("artist" + i, i, RecordType.ARTIST));
             }
 
             outputStream.reset();
 
-            hash.insert(new Record("testArtist", new Node(2), "artist"));
+            hash.insert(new Record("testArtist", 2, RecordType.ARTIST));
 
             String output = outputStream.toString().trim();
             System.out.println("Captured output: " + output);
@@ -414,10 +419,10 @@ public class HashTest extends TestCase {
 
         try {
             for (int i = 0; i < hash.getAllRecords().length / 2; i++) {
-                hash.insert(new Record("unknown" + i, new Node(i), "unknown"));
+                hash.insert(new Record("unknown" + i, i, null));
             }
             outputStream.reset();
-            hash.insert(new Record("testUnknown", new Node(3), "unknown"));
+            hash.insert(new Record("testUnknown", 3, null));
 
             String output = outputStream.toString().trim();
             System.out.println("Captured output: " + output);
@@ -455,20 +460,20 @@ public class HashTest extends TestCase {
      * Tests insert artist pair
      */
     public void testInsertPairs() {
-        Record artistRecord = new Record("Blind Lemon Jefferson", new Node(0),
-            "artist");
-        Record songRecord = new Record("Long Lonesome Blues", new Node(1),
-            "song");
+        Record artistRecord = new Record("Blind Lemon Jefferson", 0,
+            RecordType.ARTIST);
+        Record songRecord = new Record("Long Lonesome Blues", 1,
+            RecordType.SONG);
         hash.insert(artistRecord);
         hash.insert(songRecord);
 
         hash.insert(artistRecord);
         hash.insert(songRecord);
 
-        Record songRecord2 = new Record("Long   Lonesome Blues", new Node(2),
-            "song");
-        Record songRecord3 = new Record("long Lonesome Blues", new Node(3),
-            "song");
+        Record songRecord2 = new Record("Long   Lonesome Blues", 2,
+            RecordType.SONG);
+        Record songRecord3 = new Record("long Lonesome Blues", 3,
+            RecordType.SONG);
         hash.insert(songRecord2);
         hash.insert(songRecord3);
 
@@ -489,7 +494,7 @@ public class HashTest extends TestCase {
      */
     public void testRehashing() {
         for (int i = 0; i < 6; i++) {
-            record = new Record("Artist" + i, new Node(i), "artist");
+            record = new Record("Artist" + i, i, RecordType.ARTIST);
             hash.insert(record);
         }
         assertTrue(hash.getAllRecords().length > 10);
@@ -503,7 +508,7 @@ public class HashTest extends TestCase {
      * Tests remove artist
      */
     public void testRemoveArtist() {
-        Record artistRecord = new Record("Ma Rainey", new Node(0), "artist");
+        Record artistRecord = new Record("Ma Rainey", 0, RecordType.ARTIST);
         hash.insert(artistRecord);
         hash.remove("ma rainey");
         assertNotNull(hash.getRecord("Ma Rainey"));
@@ -516,8 +521,8 @@ public class HashTest extends TestCase {
      * Tests collision
      */
     public void testCollision0() {
-        Record record1 = new Record("Key1", new Node(1), "song");
-        record2 = new Record("Key1Collision", new Node(2), "song");
+        Record record1 = new Record("Key1", 1, RecordType.SONG);
+        record2 = new Record("Key1Collision", 2, RecordType.SONG);
         hash.insert(record1);
         hash.insert(record2);
         assertNotNull(hash.getRecord("Key1"));
@@ -530,7 +535,7 @@ public class HashTest extends TestCase {
      */
     public void testRemoval0() {
         hash = new Hash(10);
-        hash.insert(new Record("key1", new Node(1), "artist"));
+        hash.insert(new Record("key1", 1, RecordType.ARTIST));
         assertNotNull(hash.getRecord("key1"));
         hash.remove("key1");
         assertNull(hash.getRecord("key1"));
@@ -542,9 +547,9 @@ public class HashTest extends TestCase {
      */
     public void testRemovalCollision() {
         hash = new Hash(10);
-        hash.insert(new Record("key1", new Node(1), "artist"));
-        hash.insert(new Record("key2", new Node(2), "artist"));
-        hash.insert(new Record("key3", new Node(3), "artist"));
+        hash.insert(new Record("key1", 1, RecordType.ARTIST));
+        hash.insert(new Record("key2", 2, RecordType.ARTIST));
+        hash.insert(new Record("key3", 3, RecordType.ARTIST));
         hash.remove("key2");
         assertNull(hash.getRecord("key2"));
         assertNotNull(hash.getRecord("key1"));
@@ -557,9 +562,9 @@ public class HashTest extends TestCase {
      */
     public void testRemoval() {
         hash = new Hash(10);
-        hash.insert(new Record("key1", new Node(1), "artist"));
-        hash.insert(new Record("keyA", new Node(2), "artist"));
-        hash.insert(new Record("keyB", new Node(3), "artist"));
+        hash.insert(new Record("key1", 1, RecordType.ARTIST));
+        hash.insert(new Record("keyA", 2, RecordType.ARTIST));
+        hash.insert(new Record("keyB", 3, RecordType.ARTIST));
         hash.remove("keyB");
         assertNull(hash.getRecord("keyB"));
         assertNotNull(hash.getRecord("key1"));
@@ -572,8 +577,8 @@ public class HashTest extends TestCase {
      */
     public void testRemoval2() {
         hash = new Hash(5);
-        hash.insert(new Record("key1", new Node(1), "artist"));
-        hash.insert(new Record("key2", new Node(2), "artist"));
+        hash.insert(new Record("key1", 1, RecordType.ARTIST));
+        hash.insert(new Record("key2", 2, RecordType.ARTIST));
         hash.remove("key2");
         assertNull(hash.getRecord("key2"));
         assertNotNull(hash.getRecord("key1"));
@@ -585,7 +590,7 @@ public class HashTest extends TestCase {
      */
     public void testRemovingKeyNonExistent() {
         hash = new Hash(10);
-        hash.insert(new Record("key1", new Node(1), "artist"));
+        hash.insert(new Record("key1", 1, RecordType.ARTIST));
         hash.remove("nonexistent");
         assertNotNull(hash.getRecord("key1"));
     }
@@ -596,10 +601,10 @@ public class HashTest extends TestCase {
      */
     public void testTombstones() {
         hash = new Hash(10);
-        hash.insert(new Record("key1", new Node(1), "artist"));
+        hash.insert(new Record("key1", 1, RecordType.ARTIST));
         hash.remove("key1");
         assertNull(hash.getRecord("key1"));
-        hash.insert(new Record("key2", new Node(2), "artist"));
+        hash.insert(new Record("key2", 2, RecordType.ARTIST));
         assertNotNull(hash.getRecord("key2"));
     }
 
@@ -608,8 +613,8 @@ public class HashTest extends TestCase {
      * Tests quadratic probing again
      */
     public void testQuadraticProbing2() {
-        hash.insert(new Record("key1", new Node(1), "artist"));
-        hash.insert(new Record("key2", new Node(2), "artist"));
+        hash.insert(new Record("key1", 1, RecordType.ARTIST));
+        hash.insert(new Record("key2", 2, RecordType.ARTIST));
         int index1 = hash.find("key1");
         int index2 = hash.find("key2");
 
@@ -618,4 +623,594 @@ public class HashTest extends TestCase {
         assertEquals("key2", hash.getRecord("key2").getKey());
     }
 
+
+    /**
+     * The original sfold that copied out each 4 character block. Used to make
+     * sure the in place version gives the same slots.
+     * 
+     * @param s
+     *            the string to hash
+     * @param length
+     *            the table length
+     * @return the home slot
+     */
+    private static int copyingSfold(String s, int length) {
+        int intLength = s.length() / 4;
+        long sum = 0;
+        for (int j = 0; j < intLength; j++) {
+            char[] c = s.substring(j * 4, (j * 4) + 4).toCharArray();
+            long mult = 1;
+            for (int k = 0; k < c.length; k++) {
+                sum += c[k] * mult;
+                mult *= 256;
+            }
+        }
+        char[] c = s.substring(intLength * 4).toCharArray();
+        long mult = 1;
+        for (int k = 0; k < c.length; k++) {
+            sum += c[k] * mult;
+            mult *= 256;
+        }
+        return (int)(Math.abs(sum) % length);
+    }
+
+
+    /**
+     * Tests that the in place sfold matches the copying version
+     */
+    public void testSfoldMatchesCopying() {
+        String[] keys = { "", "a", "ab", "abc", "abcd", "abcde",
+            "Long Lonesome Blues", "Live at the Apollo (Remastered)",
+            "Ma Rainey's Black Bottom", "\u00e9t\u00e9 \u4e2d\u6587" };
+        int[] lengths = { 1, 7, 10, 16, 10000, 1 << 20 };
+        for (String key : keys) {
+            for (int length : lengths) {
+                assertEquals(copyingSfold(key, length), Hash.h(key, length));
+                assertEquals(copyingSfold(key, length), Hash.h(
+                    new StringBuilder(key), length));
+            }
+        }
+    }
+
+
+    /**
+     * Tests that byte keys hash to the same slot as their ASCII string
+     */
+    public void testSfoldBytes() {
+        String key = "Blind Lemon Jefferson";
+        byte[] bytes = key.getBytes(StandardCharsets.US_ASCII);
+        assertEquals(Hash.h(key, 10000), Hash.h(bytes, 10000));
+
+        byte[] padded = ("xx" + key + "yy").getBytes(
+            StandardCharsets.US_ASCII);
+        assertEquals(Hash.h(key, 10000), Hash.h(padded, 2, key.length(),
+            10000));
+        assertEquals(Hash.sfold(key), Hash.sfold(bytes, 0, bytes.length));
+
+        byte[] high = { (byte)0xE9 };
+        assertEquals(0xE9, Hash.h(high, 10000));
+    }
+
+
+    /**
+     * Tests find or insert on a missing key, an existing key and a key whose
+     * slot was left as a tombstone
+     */
+    public void testFindOrInsert() {
+        Record inserted = hash.findOrInsert("hokies", key -> record);
+        assertEquals(record, inserted);
+        assertEquals(1, hash.getNumberOfRecords());
+        assertEquals(hash.find("hokies"), Hash.h("hokies", 10));
+
+        Record found = hash.findOrInsert("hokies", key -> record2);
+        assertEquals(record, found);
+        assertEquals(1, hash.getNumberOfRecords());
+
+        int slot = hash.find("hokies");
+        hash.remove("hokies");
+        Record again = hash.findOrInsert("hokies", key -> new Record(key, 5,
+            RecordType.ARTIST));
+        assertEquals(slot, hash.find("hokies"));
+        assertEquals(5, again.getIndex());
+        assertEquals(1, hash.getNumberOfRecords());
+    }
+
+
+    /**
+     * Tests find or insert places keys in the same slots as insert and grows
+     * the table the same way
+     */
+    public void testFindOrInsertMatchesInsert() {
+        Hash other = new Hash(10);
+        for (int i = 0; i < 20; i++) {
+            String name = "key" + i;
+            hash.insert(new Record(name, i, null));
+            other.findOrInsert(name, key -> new Record(key, 0, null));
+        }
+        assertEquals(hash.getAllRecords().length, other.getAllRecords().length);
+        for (int i = 0; i < 20; i++) {
+            assertEquals(hash.find("key" + i), other.find("key" + i));
+        }
+    }
+
+
+    /**
+     * Tests keys whose folded values are equal are still told apart, before
+     * and after the table grows
+     */
+    public void testSameFoldedKey() {
+        assertEquals(Hash.sfold("abcdefgh"), Hash.sfold("efghabcd"));
+        hash.insert(new Record("abcdefgh", 1, RecordType.SONG));
+        hash.insert(new Record("efghabcd", 2, RecordType.SONG));
+        assertEquals(1, hash.getRecord("abcdefgh").getIndex());
+        assertEquals(2, hash.getRecord("efghabcd").getIndex());
+        assertEquals(-1, hash.find("ghefabcd"));
+
+        for (int i = 0; i < 10; i++) {
+            hash.insert(new Record("song" + i, i + 3, RecordType.SONG));
+        }
+        assertTrue(hash.getAllRecords().length > 10);
+        assertEquals(1, hash.getRecord("abcdefgh").getIndex());
+        assertEquals(2, hash.getRecord("efghabcd").getIndex());
+    }
+
+
+    /**
+     * Tests an incremental resize keeps every record reachable while the old
+     * table is being moved over
+     */
+    public void testIncrementalResize() {
+        HashOptions options = new HashOptions();
+        options.setIncrementalResize(true);
+        options.setMigrationStep(1);
+        hash = new Hash(10, options);
+
+        for (int i = 0; i < 40; i++) {
+            hash.insert(new Record("key" + i, i, RecordType.ARTIST));
+            for (int j = 0; j <= i; j++) {
+                assertEquals(j, hash.getRecord("key" + j).getIndex());
+            }
+        }
+        assertEquals(40, hash.getNumberOfRecords());
+        assertEquals(80, hash.getAllRecords().length);
+
+        hash.insert(new Record("key3", 99, RecordType.ARTIST));
+        assertEquals(40, hash.getNumberOfRecords());
+        assertEquals(3, hash.getRecord("key3").getIndex());
+
+        for (int i = 0; i < 40; i += 2) {
+            hash.remove("key" + i);
+        }
+        assertEquals(20, hash.getNumberOfRecords());
+        for (int i = 0; i < 40; i++) {
+            assertEquals(i % 2 == 1, hash.getRecord("key" + i) != null);
+        }
+    }
+
+
+    /**
+     * Tests find or insert and print while an incremental resize is going on
+     */
+    public void testIncrementalFindOrInsert() {
+        HashOptions options = new HashOptions();
+        options.setIncrementalResize(true);
+        options.setMigrationStep(1);
+        hash = new Hash(10, options);
+        for (int i = 0; i < 6; i++) {
+            hash.findOrInsert("key" + i, key -> new Record(key, 0,
+                RecordType.SONG));
+        }
+        Record first = hash.getRecord("key0");
+        assertEquals(first, hash.findOrInsert("key0", key -> record));
+        assertEquals(6, hash.getNumberOfRecords());
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(outputStream));
+        try {
+            hash.print();
+        }
+        finally {
+            System.setOut(originalOut);
+        }
+        String output = outputStream.toString();
+        for (int i = 0; i < 6; i++) {
+            assertTrue(output.contains(hash.find("key" + i) + ": |key" + i
+                + "|"));
+        }
+    }
+
+
+    /**
+     * Tests triangular probing rounds the table up to a power of two and
+     * places keys that all share one home slot
+     */
+    public void testTriangularProbing() {
+        HashOptions options = new HashOptions();
+        options.setTriangularProbing(true);
+        hash = new Hash(10, options);
+        assertEquals(16, hash.getAllRecords().length);
+
+        // one character keys 16 apart all have the same home slot
+        for (int i = 0; i < 8; i++) {
+            String key = String.valueOf((char)('A' + 16 * i));
+            hash.insert(new Record(key, i, RecordType.SONG));
+        }
+        assertEquals(16, hash.getAllRecords().length);
+        for (int i = 0; i < 8; i++) {
+            String key = String.valueOf((char)('A' + 16 * i));
+            assertEquals(i, hash.getRecord(key).getIndex());
+        }
+
+        hash.insert(new Record("grows", 8, RecordType.SONG));
+        assertEquals(32, hash.getAllRecords().length);
+        assertEquals(9, hash.getNumberOfRecords());
+        assertEquals(-1, hash.find(String.valueOf((char)('A' + 16 * 8))));
+    }
+
+
+    /**
+     * Tests quadratic probing grows the table instead of looping forever
+     * when the probe sequence of a key has no free slot left
+     */
+    public void testQuadraticProbingFull() {
+        hash = new Hash(16);
+        // squares mod 16 only reach four slots past the home slot
+        for (int i = 0; i < 5; i++) {
+            String key = String.valueOf((char)('A' + 16 * i));
+            hash.insert(new Record(key, i, null));
+        }
+        assertEquals(32, hash.getAllRecords().length);
+        for (int i = 0; i < 5; i++) {
+            String key = String.valueOf((char)('A' + 16 * i));
+            assertEquals(i, hash.getRecord(key).getIndex());
+        }
+    }
+
+
+    /**
+     * Tests a table with a higher load factor and a smaller growth factor
+     */
+    public void testLoadAndGrowthFactor() {
+        HashOptions options = new HashOptions();
+        options.setLoadFactor(0.75);
+        options.setGrowthFactor(1.5);
+        hash = new Hash(10, options);
+        for (int i = 0; i < 7; i++) {
+            hash.insert(new Record("key" + i, i, RecordType.ARTIST));
+        }
+        assertEquals(10, hash.getAllRecords().length);
+        hash.insert(new Record("key7", 7, RecordType.ARTIST));
+        assertEquals(15, hash.getAllRecords().length);
+        for (int i = 0; i < 8; i++) {
+            assertEquals(i, hash.getRecord("key" + i).getIndex());
+        }
+    }
+
+
+    /**
+     * Tests a table stops growing at its maximum capacity and fills up
+     */
+    public void testMaxCapacity() {
+        HashOptions options = new HashOptions();
+        options.setTriangularProbing(true);
+        options.setMaxCapacity(20);
+        hash = new Hash(4, options);
+        for (int i = 0; i < 16; i++) {
+            hash.insert(new Record("key" + i, i, RecordType.ARTIST));
+        }
+        assertEquals(16, hash.getAllRecords().length);
+        assertEquals(16, hash.getNumberOfRecords());
+        for (int i = 0; i < 16; i++) {
+            assertEquals(i, hash.getRecord("key" + i).getIndex());
+        }
+        assertEquals(-1, hash.find("key16"));
+
+        Exception thrown = null;
+        try {
+            hash.insert(new Record("key16", 16, RecordType.ARTIST));
+        }
+        catch (IllegalStateException e) {
+            thrown = e;
+        }
+        assertNotNull(thrown);
+    }
+
+
+    /**
+     * Tests a table shrinks after most records are removed, but not below
+     * its first length, and keeps every record reachable
+     */
+    public void testShrink() {
+        HashOptions options = new HashOptions();
+        options.setMinLoadFactor(0.125);
+        hash = new Hash(10, options);
+        for (int i = 0; i < 40; i++) {
+            hash.insert(new Record("key" + i, i, RecordType.ARTIST));
+        }
+        assertEquals(80, hash.getAllRecords().length);
+
+        for (int i = 0; i < 30; i++) {
+            hash.remove("key" + i);
+        }
+        assertEquals(80, hash.getAllRecords().length);
+        hash.remove("key30"); // now under 1/8 full
+        assertEquals(9, hash.getNumberOfRecords());
+        assertEquals(40, hash.getAllRecords().length);
+        for (int i = 31; i < 40; i++) {
+            assertEquals(i, hash.getRecord("key" + i).getIndex());
+        }
+
+        for (int i = 31; i < 40; i++) {
+            hash.remove("key" + i);
+        }
+        assertEquals(0, hash.getNumberOfRecords());
+        assertEquals(10, hash.getAllRecords().length);
+    }
+
+
+    /**
+     * Tests the default options never shrink the table
+     */
+    public void testNoShrinkByDefault() {
+        for (int i = 0; i < 20; i++) {
+            hash.insert(new Record("key" + i, i, RecordType.ARTIST));
+        }
+        int length = hash.getAllRecords().length;
+        for (int i = 0; i < 20; i++) {
+            hash.remove("key" + i);
+        }
+        assertEquals(length, hash.getAllRecords().length);
+    }
+
+
+    /**
+     * Tests forEachRecord visits every record once, including records still
+     * in the old table of an incremental resize
+     */
+    public void testForEachRecord() {
+        HashOptions options = new HashOptions();
+        options.setIncrementalResize(true);
+        options.setMigrationStep(1);
+        hash = new Hash(10, options);
+        for (int i = 0; i < 12; i++) {
+            hash.insert(new Record("key" + i, i, RecordType.ARTIST));
+        }
+        hash.remove("key4");
+        int[] seen = new int[12];
+        hash.forEachRecord(r -> seen[r.getIndex()]++);
+        for (int i = 0; i < 12; i++) {
+            assertEquals(i == 4 ? 0 : 1, seen[i]);
+        }
+    }
+
+
+    /**
+     * Tests the table works the same with other hash functions
+     */
+    public void testHashFunctions() {
+        HashFunction[] functions = { new MixHash(3), new SipHash(3) };
+        for (HashFunction function : functions) {
+            HashOptions options = new HashOptions();
+            options.setHashFunction(function);
+            options.setTriangularProbing(function instanceof SipHash);
+            hash = new Hash(16, options);
+            systemOut().clearHistory();
+            for (int i = 0; i < 100; i++) {
+                hash.insert(new Record("key" + i, i, RecordType.SONG));
+            }
+            for (int i = 0; i < 100; i += 2) {
+                hash.remove("key" + i);
+            }
+            assertEquals(50, hash.getNumberOfRecords());
+            for (int i = 1; i < 100; i += 2) {
+                assertEquals(i, hash.getRecord("key" + i).getIndex());
+            }
+            assertNull(hash.getRecord("key0"));
+        }
+    }
+
+
+    /**
+     * Fills a table that resizes in parallel from the smallest length,
+     * removing every third key on the way
+     * 
+     * @param options
+     *            is how the table grows
+     * @return the table
+     */
+    private static Hash parallelTable(HashOptions options) {
+        options.setParallelThreshold(1);
+        Hash table = new Hash(10, options);
+        for (int i = 0; i < 3000; i++) {
+            table.insert(new Record("song" + i, i, RecordType.SONG));
+            if (i % 3 == 0) {
+                table.remove("song" + (i / 2));
+            }
+        }
+        return table;
+    }
+
+
+    /**
+     * Tests resizing in parallel keeps every record and gives the same
+     * table every time
+     */
+    public void testParallelResize() {
+        hash = parallelTable(new HashOptions());
+        Hash again = parallelTable(new HashOptions());
+        assertEquals(2000, hash.getNumberOfRecords());
+        for (int i = 0; i < 3000; i++) {
+            Record record = hash.getRecord("song" + i);
+            boolean removed = i < 1500 && i % 3 != 2;
+            if (removed != (record == null)) {
+                fail("song" + i);
+            }
+            assertEquals(hash.find("song" + i), again.find("song" + i));
+        }
+        int[] count = new int[1];
+        hash.forEachRecord(record -> count[0]++);
+        assertEquals(2000, count[0]);
+
+        HashOptions options = new HashOptions();
+        options.setTriangularProbing(true);
+        options.setMinLoadFactor(0.1);
+        hash = parallelTable(options);
+        for (int i = 0; i < 3000; i++) {
+            hash.remove("song" + i);
+        }
+        hash.insert(new Record("hokies", 1, RecordType.ARTIST));
+        assertEquals(1, hash.getRecord("hokies").getIndex());
+        assertEquals(1, hash.getNumberOfRecords());
+        assertTrue(hash.getAllRecords().length < 64);
+    }
+
+
+    /**
+     * Tests reserve grows once to the length inserting the records would
+     * reach, without a growth message
+     */
+    public void testReserve() {
+        hash = new Hash(10);
+        systemOut().clearHistory();
+        hash.reserve(100);
+        assertEquals(320, hash.getAllRecords().length);
+        for (int i = 0; i < 100; i++) {
+            hash.insert(new Record("song" + i, i, RecordType.SONG));
+        }
+        assertEquals(320, hash.getAllRecords().length);
+        assertEquals("", systemOut().getHistory());
+        hash.insert(new Record("song100", 100, RecordType.SONG));
+
+        hash.reserve(10);
+        assertEquals(320, hash.getAllRecords().length);
+        for (int i = 0; i <= 100; i++) {
+            assertEquals(i, hash.getRecord("song" + i).getIndex());
+        }
+    }
+
+
+    /**
+     * Tests a table with a Bloom filter puts records in the same slots as
+     * one without, and answers most misses without probing
+     */
+    public void testBloomFilter() {
+        HashOptions options = new HashOptions();
+        options.setBloomBitsPerKey(10);
+        Hash filtered = new Hash(10, options);
+        Hash plain = new Hash(10);
+        assertNull(plain.getFilter());
+        assertEquals(0.0, plain.getFalsePositiveRate(), 0.0);
+        for (int i = 0; i < 300; i++) {
+            filtered.insert(new Record("song" + i, i, RecordType.SONG));
+            plain.insert(new Record("song" + i, i, RecordType.SONG));
+            if (i % 3 == 0) {
+                filtered.remove("song" + (i / 2));
+                plain.remove("song" + (i / 2));
+            }
+        }
+        Record[] expected = plain.getAllRecords();
+        Record[] actual = filtered.getAllRecords();
+        assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            if (expected[i] == null) {
+                assertNull(actual[i]);
+            }
+            else {
+                assertEquals(expected[i].getKey(), actual[i].getKey());
+            }
+        }
+        assertEquals(plain.getNumberOfRecords(), filtered
+            .getNumberOfRecords());
+        long rejectsBefore = filtered.getFilterRejects();
+        long falsePositivesBefore = filtered.getFalsePositives();
+        assertTrue(rejectsBefore > 250);
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(-1, filtered.find("missing" + i));
+        }
+        long rejects = filtered.getFilterRejects() - rejectsBefore;
+        assertEquals(1000, rejects + filtered.getFalsePositives()
+            - falsePositivesBefore);
+        assertTrue(rejects > 950);
+        assertTrue(filtered.getFalsePositiveRate() < 0.05);
+        int zero = 0;
+        for (int i = 0; i < 100; i++) {
+            if (filtered.probes("missing" + i) == 0) {
+                zero++;
+            }
+        }
+        assertTrue(zero > 90);
+        for (int i = 0; i < 300; i++) {
+            assertEquals(plain.find("song" + i), filtered.find("song" + i));
+        }
+    }
+
+
+    /**
+     * Tests the Bloom filter is made again when the table resizes, and
+     * once churn has added twice the keys it was made for
+     */
+    public void testBloomFilterRebuild() {
+        HashOptions options = new HashOptions();
+        options.setBloomBitsPerKey(8);
+        options.setIncrementalResize(true);
+        options.setMigrationStep(1);
+        hash = new Hash(16, options);
+        BloomFilter first = hash.getFilter();
+        assertEquals(9, first.getCapacity());
+        for (int i = 0; i < 100; i++) {
+            hash.insert(new Record("key" + i, i, RecordType.SONG));
+            for (int j = 0; j <= i; j++) {
+                assertNotNull(hash.getRecord("key" + j));
+            }
+        }
+        assertNotSame(first, hash.getFilter());
+        assertEquals(100, hash.getFilter().getAdded());
+
+        BloomFilter filter = hash.getFilter();
+        int capacity = filter.getCapacity();
+        for (int i = 100; filter == hash.getFilter(); i++) {
+            hash.remove("key" + (i - 100));
+            hash.insert(new Record("key" + i, i, RecordType.SONG));
+        }
+        assertEquals(capacity, hash.getFilter().getCapacity());
+        assertEquals(100, hash.getFilter().getAdded());
+    }
+
+
+    /**
+     * Tests random inserts and removes with incremental resizing and
+     * quadratic probing against a map, including migrations where a record
+     * cannot reach a free slot in the new table
+     */
+    public void testIncrementalQuadraticFuzz() {
+        int[][] runs = { { 16, 500 }, { 1, 50 }, { 1, 2000 }, { 16, 2000 } };
+        for (int[] run : runs) {
+            for (long seed = 0; seed < 60; seed++) {
+                HashOptions options = new HashOptions();
+                options.setIncrementalResize(true);
+                options.setMigrationStep(run[0]);
+                Hash table = new Hash(10, options);
+                Map<String, Integer> expected = new HashMap<>();
+                Random random = new Random(seed);
+                for (int op = 0; op < 400; op++) {
+                    String key = "key" + random.nextInt(run[1]);
+                    if (random.nextInt(3) == 0) {
+                        table.remove(key);
+                        expected.remove(key);
+                    }
+                    else {
+                        table.insert(new Record(key, op, RecordType.SONG));
+                        expected.putIfAbsent(key, op);
+                    }
+                }
+                assertEquals(expected.size(), table.getNumberOfRecords());
+                for (Map.Entry<String, Integer> entry : expected.entrySet()) {
+                    assertEquals(entry.getValue().intValue(), table.getRecord(
+                        entry.getKey()).getIndex());
+                }
+            }
+        }
+    }
 }
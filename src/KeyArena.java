@@ -0,0 +1,316 @@
+// On my honor:
+// - I have not used source code obtained from another current or
+// former student, or any other unauthorized source, either
+// modified or unmodified.
+//
+// - All source code and documentation used in my program is
+// either my original work, or was derived by me from the
+// source code published in the textbook for this course.
+//
+// - I have not discussed coding details about this project with
+// anyone other than my partner (in the case of a joint
+// submission), instructor, ACM/UPE tutors or the TAs assigned
+// to this course. I understand that I may discuss the concepts
+// of this program with other students, and that another student
+// may help me debug my program so long as neither of us writes
+// anything during the discussion or modifies any computer file
+// during the discussion. I have violated neither the spirit nor
+// letter of this restriction.
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Off heap storage for record keys
+ * 
+ * Keeps the UTF-8 bytes of every key it is given, one after the other, in
+ * a direct buffer outside the Java heap. A key is known by where it starts
+ * and how many bytes it has, so a table that holds its keys here only keeps
+ * two ints per slot. Several tables can share one arena.
+ * 
+ * Each key text is stored once. Adding a key the arena already holds, from
+ * the same table or another one, gives back the place of the stored bytes,
+ * and getShared and getSaved count how often and how many bytes that
+ * spared. Bytes are only ever added: a removed key keeps its bytes, which
+ * are used again if the key comes back.
+ *
+ * @author Shruti & Lakshitha
+ * @version 9/19/24
+ */
+public class KeyArena {
+
+    /**
+     * private fields
+     */
+    private ByteBuffer bytes; // key bytes, off the heap
+    private int size; // bytes in use
+    private int[] starts; // offset of each distinct key, NO_KEY if none
+    private int[] lengths; // number of bytes of each distinct key
+    private int distinct; // number of distinct keys
+    private long shared; // adds that found the key already stored
+    private long saved; // bytes those adds did not store again
+
+    /**
+     * Offset in the index of a slot without a key
+     */
+    private static final int NO_KEY = -1;
+
+    /**
+     * Constructor method
+     * 
+     * @param capacity
+     *            is the number of bytes to start with
+     */
+    public KeyArena(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1");
+        }
+        this.bytes = ByteBuffer.allocateDirect(capacity);
+        this.size = 0;
+        this.starts = new int[16];
+        Arrays.fill(starts, NO_KEY);
+        this.lengths = new int[16];
+        this.distinct = 0;
+        this.shared = 0;
+        this.saved = 0;
+    }
+
+
+    /**
+     * Get method for the bytes in use
+     * 
+     * @return number of bytes in use
+     */
+    public int getSize() {
+        return size;
+    }
+
+
+    /**
+     * Get method for the bytes the arena can hold before it grows
+     * 
+     * @return number of bytes allocated
+     */
+    public int getCapacity() {
+        return bytes.capacity();
+    }
+
+
+    /**
+     * Get method for the number of distinct keys stored
+     * 
+     * @return number of distinct keys
+     */
+    public int getDistinct() {
+        return distinct;
+    }
+
+
+    /**
+     * Get method for the number of adds that found their key already stored
+     * 
+     * @return number of shared keys
+     */
+    public long getShared() {
+        return shared;
+    }
+
+
+    /**
+     * Get method for the bytes that shared keys did not store again
+     * 
+     * @return number of bytes saved
+     */
+    public long getSaved() {
+        return saved;
+    }
+
+
+    /**
+     * Encodes a key the way the arena stores it
+     * 
+     * @param key
+     *            is the key
+     * @return the UTF-8 bytes of the key
+     */
+    public static byte[] encode(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
+
+    /**
+     * Adds the bytes of a key, unless the arena already holds them, growing
+     * the arena if needed
+     * 
+     * @param key
+     *            is the UTF-8 bytes of the key
+     * @return where the key starts in the arena
+     */
+    public int add(byte[] key) {
+        int pos = Hash.slot(Hash.sfold(key, 0, key.length), starts.length);
+        while (starts[pos] != NO_KEY) {
+            if (matches(starts[pos], lengths[pos], key)) {
+                shared++;
+                saved += key.length;
+                return starts[pos];
+            }
+            pos = (pos + 1) % starts.length;
+        }
+
+        if (key.length > bytes.capacity() - size) {
+            grow(key.length);
+        }
+        int offset = size;
+        ByteBuffer free = bytes.duplicate();
+        free.position(offset);
+        free.put(key);
+        size += key.length;
+
+        starts[pos] = offset;
+        lengths[pos] = key.length;
+        distinct++;
+        if (distinct > starts.length / 2) {
+            reindex();
+        }
+        return offset;
+    }
+
+
+    /**
+     * Doubles the index of distinct keys, folding each stored key where it
+     * lies in the arena
+     */
+    private void reindex() {
+        int[] oldStarts = starts;
+        int[] oldLengths = lengths;
+        starts = new int[oldStarts.length * 2];
+        Arrays.fill(starts, NO_KEY);
+        lengths = new int[starts.length];
+        for (int j = 0; j < oldStarts.length; j++) {
+            if (oldStarts[j] != NO_KEY) {
+                int pos = Hash.slot(Hash.sfold(bytes, oldStarts[j],
+                    oldLengths[j]), starts.length);
+                while (starts[pos] != NO_KEY) {
+                    pos = (pos + 1) % starts.length;
+                }
+                starts[pos] = oldStarts[j];
+                lengths[pos] = oldLengths[j];
+            }
+        }
+    }
+
+
+    /**
+     * Makes a bigger buffer and copies the bytes in use into it
+     * 
+     * @param needed
+     *            is the number of free bytes needed
+     */
+    private void grow(int needed) {
+        long capacity = Math.max((long)bytes.capacity() * 2, (long)size
+            + needed);
+        if (capacity > Integer.MAX_VALUE) {
+            if ((long)size + needed > Integer.MAX_VALUE) {
+                throw new IllegalStateException("key arena is full");
+            }
+            capacity = Integer.MAX_VALUE;
+        }
+        ByteBuffer bigger = ByteBuffer.allocateDirect((int)capacity);
+        ByteBuffer used = bytes.duplicate();
+        used.position(0).limit(size);
+        bigger.put(used);
+        bytes = bigger;
+    }
+
+
+    /**
+     * Checks if the bytes at a place in the arena are the given key, without
+     * copying them out
+     * 
+     * @param offset
+     *            is where the stored key starts
+     * @param length
+     *            is the number of bytes in the stored key
+     * @param key
+     *            is the UTF-8 bytes of the key to compare with
+     * @return true if they are the same bytes
+     */
+    public boolean matches(int offset, int length, byte[] key) {
+        if (length != key.length) {
+            return false;
+        }
+        for (int k = 0; k < length; k++) {
+            if (bytes.get(offset + k) != key[k]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /**
+     * Checks if the bytes at a place in the arena are the UTF-8 encoding of
+     * the given key, encoding it one char at a time as it goes so nothing
+     * is allocated. A lone surrogate compares as '?', as encode makes it.
+     * 
+     * @param offset
+     *            is where the stored key starts
+     * @param length
+     *            is the number of bytes in the stored key
+     * @param key
+     *            is the key to compare with
+     * @return true if the stored bytes are the key
+     */
+    public boolean matches(int offset, int length, CharSequence key) {
+        int at = offset;
+        int end = offset + length;
+        for (int k = 0; k < key.length(); k++) {
+            int c = key.charAt(k);
+            if (Character.isHighSurrogate((char)c) && k + 1 < key.length()
+                && Character.isLowSurrogate(key.charAt(k + 1))) {
+                c = Character.toCodePoint((char)c, key.charAt(++k));
+            }
+            else if (Character.isSurrogate((char)c)) {
+                c = '?';
+            }
+            int count = c < 0x80 ? 1 : c < 0x800 ? 2 : c < 0x10000 ? 3 : 4;
+            if (end - at < count) {
+                return false;
+            }
+            if (count == 1) {
+                if (bytes.get(at++) != c) {
+                    return false;
+                }
+                continue;
+            }
+            int lead = count == 2 ? 0xC0 : count == 3 ? 0xE0 : 0xF0;
+            if (bytes.get(at++) != (byte)(lead | (c >> 6 * (count - 1)))) {
+                return false;
+            }
+            for (int shift = 6 * (count - 2); shift >= 0; shift -= 6) {
+                if (bytes.get(at++) != (byte)(0x80 | (c >> shift & 0x3F))) {
+                    return false;
+                }
+            }
+        }
+        return at == end;
+    }
+
+
+    /**
+     * Copies a key out of the arena
+     * 
+     * @param offset
+     *            is where the key starts
+     * @param length
+     *            is the number of bytes in the key
+     * @return the key
+     */
+    public String getKey(int offset, int length) {
+        byte[] key = new byte[length];
+        for (int k = 0; k < length; k++) {
+            key[k] = bytes.get(offset + k);
+        }
+        return new String(key, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,157 @@
+// On my honor:
+// - I have not used source code obtained from another current or
+// former student, or any other unauthorized source, either
+// modified or unmodified.
+//
+// - All source code and documentation used in my program is
+// either my original work, or was derived by me from the
+// source code published in the textbook for this course.
+//
+// - I have not discussed coding details about this project with
+// anyone other than my partner (in the case of a joint
+// submission), instructor, ACM/UPE tutors or the TAs assigned
+// to this course. I understand that I may discuss the concepts
+// of this program with other students, and that another student
+// may help me debug my program so long as neither of us writes
+// anything during the discussion or modifies any computer file
+// during the discussion. I have violated neither the spirit nor
+// letter of this restriction.
+import student.TestCase;
+
+/**
+ * Test class for methods in KeyArena class
+ * 
+ * @author Shruti & Lakshitha
+ * @version 9/19/24
+ */
+public class KeyArenaTest extends TestCase {
+    private KeyArena arena;
+
+    /**
+     * Sets up the tests that follow
+     */
+    public void setUp() {
+        arena = new KeyArena(8);
+    }
+
+
+    /**
+     * Tests add, getKey and getSize
+     */
+    public void testAdd() {
+        int first = arena.add(KeyArena.encode("hokies"));
+        int second = arena.add(KeyArena.encode("vt"));
+        assertEquals(0, first);
+        assertEquals(6, second);
+        assertEquals(8, arena.getSize());
+        assertEquals("hokies", arena.getKey(first, 6));
+        assertEquals("vt", arena.getKey(second, 2));
+    }
+
+
+    /**
+     * Tests that the arena grows and keeps its bytes
+     */
+    public void testGrow() {
+        int first = arena.add(KeyArena.encode("hokies"));
+        int second = arena.add(KeyArena.encode("Long Lonesome Blues"));
+        assertEquals(25, arena.getSize());
+        assertTrue(arena.getCapacity() >= 25);
+        assertEquals("hokies", arena.getKey(first, 6));
+        assertEquals("Long Lonesome Blues", arena.getKey(second, 19));
+
+        for (int i = 0; i < 1000; i++) {
+            arena.add(KeyArena.encode("key" + i));
+        }
+        assertEquals("hokies", arena.getKey(first, 6));
+        assertTrue(arena.getCapacity() >= arena.getSize());
+    }
+
+
+    /**
+     * Tests comparing keys in place
+     */
+    public void testMatches() {
+        int offset = arena.add(KeyArena.encode("hokies"));
+        assertTrue(arena.matches(offset, 6, KeyArena.encode("hokies")));
+        assertFalse(arena.matches(offset, 6, KeyArena.encode("hokie")));
+        assertFalse(arena.matches(offset, 6, KeyArena.encode("Hokies")));
+        assertFalse(arena.matches(offset, 5, KeyArena.encode("hokies")));
+        assertTrue(arena.matches(offset, 0, KeyArena.encode("")));
+    }
+
+
+    /**
+     * Tests comparing a String with the stored bytes without encoding it,
+     * for keys of one to four bytes per character
+     */
+    public void testMatchesString() {
+        String[] keys = { "hokies", "Caf\u00e9", "\u4e2d\u6587",
+            "x\ud83c\udfb5y", "bad\ud800", "" };
+        for (String key : keys) {
+            byte[] bytes = KeyArena.encode(key);
+            int offset = arena.add(bytes);
+            assertTrue(key, arena.matches(offset, bytes.length, key));
+            assertFalse(arena.matches(offset, bytes.length, key + "a"));
+            if (key.length() > 0) {
+                assertFalse(arena.matches(offset, bytes.length, key
+                    .substring(1)));
+                assertFalse(arena.matches(offset, bytes.length, "Z" + key
+                    .substring(1)));
+            }
+        }
+        int offset = arena.add(KeyArena.encode("bad?"));
+        assertTrue(arena.matches(offset, 4, "bad\ud800"));
+    }
+
+
+    /**
+     * Tests keys that are not ASCII
+     */
+    public void testUtf8() {
+        byte[] bytes = KeyArena.encode("Caf\u00e9");
+        assertEquals(5, bytes.length);
+        int offset = arena.add(bytes);
+        assertEquals("Caf\u00e9", arena.getKey(offset, 5));
+        assertTrue(arena.matches(offset, 5, bytes));
+    }
+
+
+    /**
+     * Tests that a key already stored is not stored again
+     */
+    public void testShared() {
+        int first = arena.add(KeyArena.encode("hokies"));
+        arena.add(KeyArena.encode("vt"));
+        assertEquals(first, arena.add(KeyArena.encode("hokies")));
+        assertEquals(8, arena.getSize());
+        assertEquals(2, arena.getDistinct());
+        assertEquals(1, arena.getShared());
+        assertEquals(6, arena.getSaved());
+
+        for (int i = 0; i < 100; i++) { // makes the index grow
+            arena.add(KeyArena.encode("key" + i));
+        }
+        for (int i = 0; i < 100; i++) {
+            arena.add(KeyArena.encode("key" + i));
+        }
+        assertEquals(first, arena.add(KeyArena.encode("hokies")));
+        assertEquals(102, arena.getDistinct());
+        assertEquals(102, arena.getShared());
+    }
+
+
+    /**
+     * Tests the bad capacity
+     */
+    public void testBadCapacity() {
+        Exception thrown = null;
+        try {
+            new KeyArena(0);
+        }
+        catch (IllegalArgumentException e) {
+            thrown = e;
+        }
+        assertNotNull(thrown);
+    }
+}
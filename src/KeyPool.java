@@ -0,0 +1,147 @@
+// On my honor:
+// - I have not used source code obtained from another current or
+// former student, or any other unauthorized source, either
+// modified or unmodified.
+//
+// - All source code and documentation used in my program is
+// either my original work, or was derived by me from the
+// source code published in the textbook for this course.
+//
+// - I have not discussed coding details about this project with
+// anyone other than my partner (in the case of a joint
+// submission), instructor, ACM/UPE tutors or the TAs assigned
+// to this course. I understand that I may discuss the concepts
+// of this program with other students, and that another student
+// may help me debug my program so long as neither of us writes
+// anything during the discussion or modifies any computer file
+// during the discussion. I have violated neither the spirit nor
+// letter of this restriction.
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool of canonical key strings
+ * 
+ * Hands out one String instance for each key text, so a name that is both
+ * an artist and a song is kept once on the heap even though both tables
+ * hold it. The pool only holds its strings weakly, so a key no table
+ * refers to anymore can still be collected. Safe to use from several
+ * threads.
+ * 
+ * Also counts how much memory sharing saved, using the size of a String
+ * on a 64 bit JVM with compressed references and compact strings.
+ *
+ * @author Shruti & Lakshitha
+ * @version 9/19/24
+ */
+public class KeyPool {
+
+    /**
+     * private fields
+     */
+    private final Map<String, WeakReference<String>> pool; // canonical keys
+    private final AtomicLong lookups; // calls to intern
+    private final AtomicLong shared; // calls that found a pooled key
+    private final AtomicLong saved; // bytes of strings not kept twice
+
+    /**
+     * Constructor method
+     */
+    public KeyPool() {
+        this.pool = Collections.synchronizedMap(new WeakHashMap<>());
+        this.lookups = new AtomicLong();
+        this.shared = new AtomicLong();
+        this.saved = new AtomicLong();
+    }
+
+
+    /**
+     * Returns the pooled string with the same text as key, pooling key
+     * itself if there is none
+     * 
+     * @param key
+     *            is the key
+     * @return the canonical string for the key text
+     */
+    public String intern(String key) {
+        lookups.incrementAndGet();
+        synchronized (pool) {
+            WeakReference<String> ref = pool.get(key);
+            String canonical = ref == null ? null : ref.get();
+            if (canonical != null) {
+                if (canonical != key) {
+                    shared.incrementAndGet();
+                    saved.addAndGet(sizeOf(key));
+                }
+                return canonical;
+            }
+            pool.put(key, new WeakReference<>(key));
+            return key;
+        }
+    }
+
+
+    /**
+     * Get method for the number of keys in the pool
+     * 
+     * @return number of pooled keys not yet collected
+     */
+    public int getSize() {
+        return pool.size();
+    }
+
+
+    /**
+     * Get method for the number of calls to intern
+     * 
+     * @return number of lookups
+     */
+    public long getLookups() {
+        return lookups.get();
+    }
+
+
+    /**
+     * Get method for the number of lookups answered with a pooled string
+     * 
+     * @return number of shared keys
+     */
+    public long getShared() {
+        return shared.get();
+    }
+
+
+    /**
+     * Get method for the bytes of strings that did not have to be kept
+     * 
+     * @return number of bytes saved
+     */
+    public long getSaved() {
+        return saved.get();
+    }
+
+
+    /**
+     * Estimates the bytes a String takes: a 24 byte object and a byte array
+     * with a 16 byte header, one byte per char when every char fits in a
+     * byte and two otherwise, rounded up to 8 bytes
+     * 
+     * @param s
+     *            is the string
+     * @return the estimated size in bytes
+     */
+    public static long sizeOf(String s) {
+        int width = 1;
+        for (int k = 0; k < s.length(); k++) {
+            if (s.charAt(k) > 0xFF) {
+                width = 2;
+                break;
+            }
+        }
+        long array = 16 + (long)s.length() * width;
+        return 24 + (array + 7) / 8 * 8;
+    }
+}
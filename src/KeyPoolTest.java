@@ -0,0 +1,102 @@
+// On my honor:
+// - I have not used source code obtained from another current or
+// former student, or any other unauthorized source, either
+// modified or unmodified.
+//
+// - All source code and documentation used in my program is
+// either my original work, or was derived by me from the
+// source code published in the textbook for this course.
+//
+// - I have not discussed coding details about this project with
+// anyone other than my partner (in the case of a joint
+// submission), instructor, ACM/UPE tutors or the TAs assigned
+// to this course. I understand that I may discuss the concepts
+// of this program with other students, and that another student
+// may help me debug my program so long as neither of us writes
+// anything during the discussion or modifies any computer file
+// during the discussion. I have violated neither the spirit nor
+// letter of this restriction.
+import student.TestCase;
+
+/**
+ * Test class for methods in KeyPool class
+ * 
+ * @author Shruti & Lakshitha
+ * @version 9/19/24
+ */
+public class KeyPoolTest extends TestCase {
+    private KeyPool pool;
+
+    /**
+     * Sets up the tests that follow
+     */
+    public void setUp() {
+        pool = new KeyPool();
+    }
+
+
+    /**
+     * Tests that equal keys give the same string
+     */
+    public void testIntern() {
+        String first = new String("Ma Rainey");
+        String second = new String("Ma Rainey");
+        assertSame(first, pool.intern(first));
+        assertSame(first, pool.intern(second));
+        assertSame(first, pool.intern(first));
+        assertEquals(1, pool.getSize());
+        assertEquals(3, pool.getLookups());
+        assertEquals(1, pool.getShared());
+        assertEquals(KeyPool.sizeOf(second), pool.getSaved());
+
+        assertSame(pool.intern("hokies"), pool.intern(new String("hokies")));
+        assertEquals(2, pool.getSize());
+        assertEquals(2, pool.getShared());
+    }
+
+
+    /**
+     * Tests the estimated size of a string
+     */
+    public void testSizeOf() {
+        assertEquals(24 + 16, KeyPool.sizeOf(""));
+        assertEquals(24 + 32, KeyPool.sizeOf("Ma Rainey"));
+        assertEquals(24 + 24, KeyPool.sizeOf("\u4e2d\u6587"));
+        assertEquals(24 + 32, KeyPool.sizeOf("\u4e2d\u6587\u4e2d\u6587xyz"));
+    }
+
+
+    /**
+     * Tests interning from several threads at once. The first copy of each
+     * key is held for the whole test so the pool cannot drop it.
+     *
+     * @throws Exception
+     */
+    public void testThreads() throws Exception {
+        String[] first = new String[10];
+        for (int i = 0; i < first.length; i++) {
+            first[i] = pool.intern(new String("key" + i));
+        }
+        String[][] seen = new String[4][1000];
+        Thread[] threads = new Thread[seen.length];
+        for (int t = 0; t < threads.length; t++) {
+            int id = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    seen[id][i] = pool.intern(new String("key" + (i % 10)));
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (String[] keys : seen) {
+            for (int i = 0; i < keys.length; i++) {
+                assertSame(first[i % 10], keys[i]);
+            }
+        }
+        assertEquals(4010, pool.getLookups());
+        assertEquals(4000, pool.getShared());
+    }
+}
@@ -0,0 +1,316 @@
+// On my honor:
+// - I have not used source code obtained from another current or
+// former student, or any other unauthorized source, either
+// modified or unmodified.
+//
+// - All source code and documentation used in my program is
+// either my original work, or was derived by me from the
+// source code published in the textbook for this course.
+//
+// - I have not discussed coding details about this project with
+// anyone other than my partner (in the case of a joint
+// submission), instructor, ACM/UPE tutors or the TAs assigned
+// to this course. I understand that I may discuss the concepts
+// of this program with other students, and that another student
+// may help me debug my program so long as neither of us writes
+// anything during the discussion or modifies any computer file
+// during the discussion. I have violated neither the spirit nor
+// letter of this restriction.
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Linear probing hash table
+ * 
+ * Stores records the same way as Hash but probes one slot at a time and
+ * deletes with backward shifting instead of tombstones. When a record is
+ * removed, the records after it in the same run are moved back into the
+ * hole, so the table never fills up with deleted slots no matter how many
+ * removes and inserts it sees.
+ *
+ * @author Shruti & Lakshitha
+ * @version 9/19/24
+ */
+public class LinearHash implements RecordTable {
+
+    /**
+     * private fields
+     */
+    private Record[] allRecords; // array which stores records
+    private long[] hashes; // folded key of the record in each slot
+    private int numberOfRecords; // number of records
+
+    /**
+     * Constructor method
+     * 
+     * @param size
+     *            is the initial size of the hash table
+     */
+    public LinearHash(int size) {
+        this.allRecords = new Record[size];
+        this.hashes = new long[size];
+        this.numberOfRecords = 0;
+    }
+
+
+    /**
+     * Get method for the number of records in table
+     * 
+     * @return number of records
+     */
+    public int getNumberOfRecords() {
+        return numberOfRecords;
+    }
+
+
+    /**
+     * Get method for array that stores records
+     * 
+     * @return all records
+     */
+    public Record[] getAllRecords() {
+        return allRecords;
+    }
+
+
+    /**
+     * Retrieves a record from hash based on its key
+     * 
+     * @param key
+     *            is the key of the record
+     * @return the record
+     */
+    public Record getRecord(String key) {
+        int pos = find(key);
+        if (pos == -1) { // record not found
+            return null;
+        }
+        return allRecords[pos];
+    }
+
+
+    /**
+     * Finds record in hash table based on key
+     * 
+     * @param key
+     *            is the record key
+     * @return position or -1 if not found
+     */
+    public int find(String key) {
+        long code = Hash.sfold(key);
+        int pos = Hash.slot(code, allRecords.length);
+
+        while (allRecords[pos] != null) { // table is never full
+            if (hashes[pos] == code && key.equals(allRecords[pos].getKey())) {
+                return pos;
+            }
+            pos = (pos + 1) % allRecords.length; // Linear probing
+        }
+        return -1; // Key not found
+    }
+
+
+    /**
+     * Inserts a record into the hash
+     * 
+     * @param record
+     *            is the record to be inserted
+     */
+    public void insert(Record record) {
+        findOrInsert(record.getKey(), key -> record);
+    }
+
+
+    /**
+     * Returns the record stored under key, inserting the one made by factory
+     * if the key is not there yet
+     * 
+     * @param key
+     *            is the record key
+     * @param factory
+     *            makes the record to insert when the key is missing
+     * @return the existing record or the newly inserted one
+     */
+    public Record findOrInsert(String key, Function<String, Record> factory) {
+        long code = Hash.sfold(key);
+        int pos = Hash.slot(code, allRecords.length);
+
+        while (allRecords[pos] != null) {
+            if (hashes[pos] == code && key.equals(allRecords[pos].getKey())) {
+                return allRecords[pos];
+            }
+            pos = (pos + 1) % allRecords.length; // Linear probing
+        }
+
+        Record record = factory.apply(key);
+        if (numberOfRecords + 1 > allRecords.length / 2) {
+            rehash();
+            Hash.announceGrowth(record.getType());
+            place(record, code);
+        }
+        else {
+            allRecords[pos] = record;
+            hashes[pos] = code;
+        }
+        numberOfRecords++;
+        return record;
+    }
+
+
+    /**
+     * Grows the table once, to the length that inserting records one at a
+     * time would reach, so that it holds count records without growing
+     * again. Prints nothing and never shrinks the table.
+     * 
+     * @param count
+     *            is the number of records the table should hold
+     */
+    public void reserve(int count) {
+        int length = allRecords.length;
+        while (count > length / 2) {
+            length = Math.max(2, length * 2);
+        }
+        if (length > allRecords.length) {
+            rehash(length);
+        }
+    }
+
+
+    /**
+     * Doubles size of hash table and adds all records from old hash to new
+     * one
+     */
+    private void rehash() {
+        rehash(allRecords.length * 2); // increase length
+    }
+
+
+    /**
+     * Adds all records to a new table of the given length
+     * 
+     * @param length
+     *            is the new table length
+     */
+    private void rehash(int length) {
+        Record[] oldRecords = allRecords;
+        long[] oldHashes = hashes;
+        allRecords = new Record[length];
+        hashes = new long[allRecords.length];
+
+        for (int j = 0; j < oldRecords.length; j++) {
+            if (oldRecords[j] != null) {
+                place(oldRecords[j], oldHashes[j]);
+            }
+        }
+    }
+
+
+    /**
+     * Puts a record in the first empty slot at or after its home slot
+     * 
+     * @param record
+     *            is the record to place
+     * @param code
+     *            is the folded key of the record
+     */
+    private void place(Record record, long code) {
+        int pos = Hash.slot(code, allRecords.length);
+        while (allRecords[pos] != null) {
+            pos = (pos + 1) % allRecords.length;
+        }
+        allRecords[pos] = record;
+        hashes[pos] = code;
+    }
+
+
+    /**
+     * Removes record from hash and shifts later records of the run back so
+     * no tombstone is needed
+     * 
+     * @param key
+     *            from record
+     */
+    public void remove(String key) {
+        int hole = find(key);
+        if (hole == -1) {
+            return;
+        }
+        int length = allRecords.length;
+        int pos = (hole + 1) % length;
+        while (allRecords[pos] != null) {
+            int home = Hash.slot(hashes[pos], length);
+            // move back if the hole is between the home slot and pos
+            if ((pos - home + length) % length >= (pos - hole + length)
+                % length) {
+                allRecords[hole] = allRecords[pos];
+                hashes[hole] = hashes[pos];
+                hole = pos;
+            }
+            pos = (pos + 1) % length;
+        }
+        allRecords[hole] = null;
+        numberOfRecords--;
+    }
+
+
+    /**
+     * Calls action once for every record in the table
+     * 
+     * @param action
+     *            is what to do with each record
+     */
+    public void forEachRecord(Consumer<Record> action) {
+        for (int i = 0; i < allRecords.length; i++) {
+            if (allRecords[i] != null) {
+                action.accept(allRecords[i]);
+            }
+        }
+    }
+
+
+    /**
+     * Gives every record a new node index, after the graph was compacted
+     * 
+     * @param map
+     *            is the new index for each old index
+     */
+    public void renumberNodes(int[] map) {
+        forEachRecord(record -> record.setIndex(map[record.getIndex()]));
+    }
+
+
+    /**
+     * Prints hash table contents
+     */
+    public void print() {
+        for (int i = 0; i < allRecords.length; i++) {
+            if (allRecords[i] != null) {
+                System.out.println(i + ": |" + allRecords[i].getKey().trim()
+                    + "|");
+            }
+        }
+    }
+
+
+    /**
+     * Counts the slots find looks at for a key
+     * 
+     * @param key
+     *            is the record key
+     * @return number of slots looked at
+     */
+    public int probes(String key) {
+        long code = Hash.sfold(key);
+        int pos = Hash.slot(code, allRecords.length);
+        int count = 1;
+
+        while (allRecords[pos] != null) {
+            if (hashes[pos] == code && key.equals(allRecords[pos].getKey())) {
+                return count;
+            }
+            pos = (pos + 1) % allRecords.length;
+            count++;
+        }
+        return count;
+    }
+}
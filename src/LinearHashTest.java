@@ -0,0 +1,228 @@
+// On my honor:
+// - I have not used source code obtained from another current or
+// former student, or any other unauthorized source, either
+// modified or unmodified.
+//
+// - All source code and documentation used in my program is
+// either my original work, or was derived by me from the
+// source code published in the textbook for this course.
+//
+// - I have not discussed coding details about this project with
+// anyone other than my partner (in the case of a joint
+// submission), instructor, ACM/UPE tutors or the TAs assigned
+// to this course. I understand that I may discuss the concepts
+// of this program with other students, and that another student
+// may help me debug my program so long as neither of us writes
+// anything during the discussion or modifies any computer file
+// during the discussion. I have violated neither the spirit nor
+// letter of this restriction.
+import student.TestCase;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+/**
+ * Test class for methods in LinearHash class
+ * 
+ * @author Shruti & Lakshitha
+ * @version 9/19/24
+ */
+public class LinearHashTest extends TestCase {
+    private LinearHash hash;
+
+    /**
+     * Sets up the tests that follow
+     */
+    public void setUp() {
+        hash = new LinearHash(16);
+    }
+
+
+    /**
+     * Gives a one character key. Keys 16 apart share a home slot in a table
+     * of length 16.
+     * 
+     * @param i
+     *            which key
+     * @return the key
+     */
+    private static String key(int i) {
+        return String.valueOf((char)('A' + 16 * i));
+    }
+
+
+    /**
+     * Tests insert, find and getRecord
+     */
+    public void testInsertFind() {
+        Record record = new Record("hokies", 1, RecordType.ARTIST);
+        hash.insert(record);
+        assertEquals(Hash.h("hokies", 16), hash.find("hokies"));
+        assertEquals(record, hash.getRecord("hokies"));
+        assertNull(hash.getRecord("notThere"));
+        assertEquals(-1, hash.find("notThere"));
+
+        hash.insert(new Record("hokies", 2, RecordType.ARTIST));
+        assertEquals(1, hash.getNumberOfRecords());
+        assertEquals(record, hash.getRecord("hokies"));
+    }
+
+
+    /**
+     * Tests colliding keys go to the next free slots
+     */
+    public void testCollisions() {
+        for (int i = 0; i < 4; i++) {
+            hash.insert(new Record(key(i), i, RecordType.SONG));
+        }
+        int home = Hash.h(key(0), 16);
+        for (int i = 0; i < 4; i++) {
+            assertEquals((home + i) % 16, hash.find(key(i)));
+            assertEquals(i + 1, hash.probes(key(i)));
+        }
+        assertEquals(5, hash.probes(key(4)));
+    }
+
+
+    /**
+     * Tests removing from the middle of a run shifts the rest back and
+     * leaves no deleted slot behind
+     */
+    public void testBackwardShift() {
+        for (int i = 0; i < 4; i++) {
+            hash.insert(new Record(key(i), i, RecordType.SONG));
+        }
+        int home = Hash.h(key(0), 16);
+        hash.remove(key(1));
+        assertEquals(3, hash.getNumberOfRecords());
+        assertNull(hash.getRecord(key(1)));
+        assertEquals(home, hash.find(key(0)));
+        assertEquals((home + 1) % 16, hash.find(key(2)));
+        assertEquals((home + 2) % 16, hash.find(key(3)));
+        assertNull(hash.getAllRecords()[(home + 3) % 16]);
+
+        hash.remove(key(0));
+        hash.remove(key(3));
+        hash.remove(key(2));
+        hash.remove(key(2));
+        assertEquals(0, hash.getNumberOfRecords());
+        for (Record record : hash.getAllRecords()) {
+            assertNull(record);
+        }
+    }
+
+
+    /**
+     * Tests a record whose home slot is after the hole stays where it is
+     */
+    public void testShiftKeepsLaterHome() {
+        int home = Hash.h(key(0), 16);
+        hash.insert(new Record(key(0), 0, RecordType.SONG));
+        hash.insert(new Record(key(1), 1, RecordType.SONG));
+        // home slot is the one taken by key(1)
+        String later = String.valueOf((char)('A' + 1));
+        hash.insert(new Record(later, 2, RecordType.SONG));
+        assertEquals((home + 2) % 16, hash.find(later));
+
+        hash.remove(key(0));
+        assertEquals(home, hash.find(key(1)));
+        assertEquals((home + 1) % 16, hash.find(later));
+    }
+
+
+    /**
+     * Tests the table wraps around the end of the array
+     */
+    public void testWrapAround() {
+        hash = new LinearHash(8);
+        // 'G' is 71 which is home slot 7, the last one
+        hash.insert(new Record("G", 0, RecordType.SONG));
+        hash.insert(new Record("O", 1, RecordType.SONG));
+        assertEquals(7, hash.find("G"));
+        assertEquals(0, hash.find("O"));
+        hash.remove("G");
+        assertEquals(7, hash.find("O"));
+    }
+
+
+    /**
+     * Tests the table doubles when more than half full
+     */
+    public void testRehash() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(outputStream));
+        try {
+            for (int i = 0; i < 9; i++) {
+                hash.insert(new Record("artist" + i, i, RecordType.ARTIST));
+            }
+        }
+        finally {
+            System.setOut(originalOut);
+        }
+        assertEquals("Artist hash table size doubled.", outputStream
+            .toString().trim());
+        assertEquals(32, hash.getAllRecords().length);
+        for (int i = 0; i < 9; i++) {
+            assertEquals(i, hash.getRecord("artist" + i).getIndex());
+        }
+    }
+
+
+    /**
+     * Tests find or insert
+     */
+    public void testFindOrInsert() {
+        Record first = hash.findOrInsert("key", k -> new Record(k, 1,
+            RecordType.SONG));
+        Record second = hash.findOrInsert("key", k -> new Record(k, 2,
+            RecordType.SONG));
+        assertEquals(first, second);
+        assertEquals(1, hash.getNumberOfRecords());
+    }
+
+
+    /**
+     * Tests print
+     */
+    public void testPrint() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(outputStream));
+        try {
+            hash.insert(new Record("A", 0, RecordType.SONG));
+            hash.insert(new Record("Q", 1, RecordType.SONG));
+            hash.remove("A");
+            hash.print();
+        }
+        finally {
+            System.setOut(originalOut);
+        }
+        assertEquals("1: |Q|", outputStream.toString().trim());
+    }
+
+
+    /**
+     * Tests reserve makes room for the records in one step
+     */
+    public void testReserve() {
+        hash = new LinearHash(10);
+        hash.reserve(100);
+        int length = hash.getAllRecords().length;
+        assertTrue(length > 10);
+        PrintStream originalOut = System.out;
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outputStream));
+        try {
+            for (int i = 0; i < 100; i++) {
+                hash.insert(new Record("song" + i, i, RecordType.SONG));
+            }
+        }
+        finally {
+            System.setOut(originalOut);
+        }
+        assertEquals("", outputStream.toString());
+        assertEquals(length, hash.getAllRecords().length);
+        assertEquals(100, hash.getNumberOfRecords());
+        assertEquals(99, hash.getRecord("song99").getIndex());
+    }
+}
@@ -0,0 +1,104 @@
+// On my honor:
+// - I have not used source code obtained from another current or
+// former student, or any other unauthorized source, either
+// modified or unmodified.
+//
+// - All source code and documentation used in my program is
+// either my original work, or was derived by me from the
+// source code published in the textbook for this course.
+//
+// - I have not discussed coding details about this project with
+// anyone other than my partner (in the case of a joint
+// submission), instructor, ACM/UPE tutors or the TAs assigned
+// to this course. I understand that I may discuss the concepts
+// of this program with other students, and that another student
+// may help me debug my program so long as neither of us writes
+// anything during the discussion or modifies any computer file
+// during the discussion. I have violated neither the spirit nor
+// letter of this restriction.
+/**
+ * Seeded multiply and mix hash function
+ * 
+ * Packs the key four characters at a time into 64 bit words and mixes each
+ * one in with a multiply and a shift, then finishes with the 64 bit
+ * finalizer of MurmurHash3. Unlike sfold, the order of the characters and
+ * of the blocks matters, and every bit of the result depends on every
+ * character. Tables given different seeds spread the same keys
+ * differently. It is fast but not built to resist someone who can see the
+ * hashes; use SipHash for that.
+ *
+ * @author Shruti & Lakshitha
+ * @version 9/19/24
+ */
+public class MixHash implements HashFunction {
+
+    /**
+     * Odd multiplier, the 64 bit golden ratio
+     */
+    private static final long GOLDEN = 0x9e3779b97f4a7c15L;
+
+    /**
+     * private fields
+     */
+    private final long seed; // start value of every hash
+
+    /**
+     * Constructor method
+     * 
+     * @param seed
+     *            picks which function of the family this is
+     */
+    public MixHash(long seed) {
+        this.seed = seed;
+    }
+
+
+    /**
+     * Get method for the seed
+     * 
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+
+    /**
+     * Hashes a key
+     * 
+     * @param key
+     *            the characters to hash
+     * @return the hash before it is reduced to a slot
+     */
+    public long hash(CharSequence key) {
+        int count = key.length();
+        long hash = seed ^ (count * GOLDEN);
+        long word = 0;
+        for (int k = 0; k < count; k++) {
+            word |= (long)key.charAt(k) << ((k & 3) * 16);
+            if ((k & 3) == 3 || k == count - 1) { // word is full or last
+                hash = (hash ^ word) * GOLDEN;
+                hash ^= hash >>> 32;
+                word = 0;
+            }
+        }
+        return mix(hash);
+    }
+
+
+    /**
+     * The 64 bit finalizer of MurmurHash3
+     * 
+     * @param x
+     *            the value to mix
+     * @return the mixed value
+     */
+    public static long mix(long x) {
+        x ^= x >>> 33;
+        x *= 0xff51afd7ed558ccdL;
+        x ^= x >>> 33;
+        x *= 0xc4ceb9fe1a85ec53L;
+        x ^= x >>> 33;
+        return x;
+    }
+}
@@ -0,0 +1,71 @@
+// On my honor:
+// - I have not used source code obtained from another current or
+// former student, or any other unauthorized source, either
+// modified or unmodified.
+//
+// - All source code and documentation used in my program is
+// either my original work, or was derived by me from the
+// source code published in the textbook for this course.
+//
+// - I have not discussed coding details about this project with
+// anyone other than my partner (in the case of a joint
+// submission), instructor, ACM/UPE tutors or the TAs assigned
+// to this course. I understand that I may discuss the concepts
+// of this program with other students, and that another student
+// may help me debug my program so long as neither of us writes
+// anything during the discussion or modifies any computer file
+// during the discussion. I have violated neither the spirit nor
+// letter of this restriction.
+import student.TestCase;
+
+/**
+ * Test class for methods in MixHash class
+ * 
+ * @author Shruti & Lakshitha
+ * @version 9/19/24
+ */
+public class MixHashTest extends TestCase {
+
+    /**
+     * Tests keys that collide under sfold do not collide here
+     */
+    public void testPermutedBlocks() {
+        // the same two 4 character blocks in the other order
+        assertEquals(Hash.sfold("abcdefgh"), Hash.sfold("efghabcd"));
+        MixHash mix = new MixHash(0);
+        assertFalse(mix.hash("abcdefgh") == mix.hash("efghabcd"));
+        assertFalse(mix.hash("ab") == mix.hash("ba"));
+        assertFalse(mix.hash("") == mix.hash("\0"));
+    }
+
+
+    /**
+     * Tests the seed picks the function and the same seed gives the same
+     * hashes
+     */
+    public void testSeed() {
+        MixHash first = new MixHash(1);
+        MixHash second = new MixHash(2);
+        assertEquals(1, first.getSeed());
+        assertEquals(first.hash("hokies"), new MixHash(1).hash("hokies"));
+        assertEquals(first.hash("hokies"), first.hash(new StringBuilder(
+            "hokies")));
+        assertFalse(first.hash("hokies") == second.hash("hokies"));
+    }
+
+
+    /**
+     * Tests similar keys spread over the slots of a small table
+     */
+    public void testSpread() {
+        MixHash mix = new MixHash(3114);
+        int[] counts = new int[16];
+        for (int i = 0; i < 1600; i++) {
+            counts[Hash.slot(mix.hash("key" + i), 16)]++;
+        }
+        for (int count : counts) {
+            assertTrue(count > 60 && count < 140);
+        }
+        assertEquals(0, MixHash.mix(0));
+    }
+}
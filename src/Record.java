@@ -18,8 +18,8 @@
 // letter of this restriction.
 // -------------------------------------------------------------------------
 /**
- * This is the record class. It takes in a node and has the name of the
- * artist/song and if the record is a artist or song.
+ * This is the record class. It has the name of the artist/song, the index
+ * of its vertex in the graph and if the record is a artist or song.
  * 
  * @author laksh
  * @version Sep 19, 2024
@@ -30,27 +30,27 @@ public class Record {
      */
     private String key;
     /*
-     * node that is inputted with the index
+     * index of the vertex in the graph
      */
-    private Node node;
+    private int index;
     /*
      * to differentiate song or artist records
      */
-    private String type;
+    private RecordType type;
 
     /**
      * Create a new Record object.
      * 
      * @param key
      *            name of artist or song
-     * @param node
-     *            contains index of the node
+     * @param index
+     *            index of the vertex in the graph
      * @param type
      *            differentiates song record and artist record
      */
-    public Record(String key, Node node, String type) {
+    public Record(String key, int index, RecordType type) {
         this.key = key;
-        this.node = node;
+        this.index = index;
         this.type = type;
     }
 
@@ -66,21 +66,21 @@ public class Record {
 
 
     /**
-     * gets the node Node
+     * gets the vertex index
      * 
-     * @return node
+     * @return index
      */
-    public Node getNode() {
-        return node;
+    public int getIndex() {
+        return index;
     }
 
 
     /**
-     * gets the String type
+     * gets the record type
      * 
      * @return type
      */
-    public String getType() {
+    public RecordType getType() {
         return type;
     }
 
@@ -97,33 +97,33 @@ public class Record {
 
 
     /**
-     * sets the node to the node
+     * sets the vertex index
      * 
-     * @param node
+     * @param index
      *            is to be set to
      */
-    public void setNode(Node node) {
-        this.node = node;
+    public void setIndex(int index) {
+        this.index = index;
     }
 
 
     /**
-     * sets the type to the string type
+     * sets the type to the record type
      * 
      * @param type
      *            is the type of record
      */
-    public void setType(String type) {
+    public void setType(RecordType type) {
         this.type = type;
     }
 
 
     /**
-     * sets all fields to null when record is a tombstone
+     * clears all fields when record is a tombstone
      */
     public void setTombstone() {
         this.setKey(null);
-        this.setNode(null);
+        this.setIndex(-1);
         this.setType(null);
 
     }
@@ -0,0 +1,134 @@
+// On my honor:
+// - I have not used source code obtained from another current or
+// former student, or any other unauthorized source, either
+// modified or unmodified.
+//
+// - All source code and documentation used in my program is
+// either my original work, or was derived by me from the
+// source code published in the textbook for this course.
+//
+// - I have not discussed coding details about this project with
+// anyone other than my partner (in the case of a joint
+// submission), instructor, ACM/UPE tutors or the TAs assigned
+// to this course. I understand that I may discuss the concepts
+// of this program with other students, and that another student
+// may help me debug my program so long as neither of us writes
+// anything during the discussion or modifies any computer file
+// during the discussion. I have violated neither the spirit nor
+// letter of this restriction.
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * The operations every record hash table offers. Hash is the quadratic
+ * probing table used by the controller; the other tables give different
+ * probing and deletion schemes behind the same methods.
+ *
+ * @author Shruti & Lakshitha
+ * @version 9/19/24
+ */
+public interface RecordTable {
+
+    /**
+     * Get method for the number of records in the table
+     * 
+     * @return number of records
+     */
+    public int getNumberOfRecords();
+
+
+    /**
+     * Grows the table once so that it holds count records without growing
+     * again. Prints nothing and never shrinks the table.
+     * 
+     * @param count
+     *            is the number of records the table should hold
+     */
+    public void reserve(int count);
+
+
+    /**
+     * Retrieves a record from the table based on its key
+     * 
+     * @param key
+     *            is the key of the record
+     * @return the record or null if not found
+     */
+    public Record getRecord(String key);
+
+
+    /**
+     * Finds record in the table based on key
+     * 
+     * @param key
+     *            is the record key
+     * @return position or -1 if not found
+     */
+    public int find(String key);
+
+
+    /**
+     * Inserts a record into the table. Does nothing if a record with the
+     * same key is already there.
+     * 
+     * @param record
+     *            is the record to be inserted
+     */
+    public void insert(Record record);
+
+
+    /**
+     * Returns the record stored under key, inserting the one made by factory
+     * if the key is not there yet
+     * 
+     * @param key
+     *            is the record key
+     * @param factory
+     *            makes the record to insert when the key is missing
+     * @return the existing record or the newly inserted one
+     */
+    public Record findOrInsert(String key, Function<String, Record> factory);
+
+
+    /**
+     * Removes the record with this key, if there is one
+     * 
+     * @param key
+     *            from record
+     */
+    public void remove(String key);
+
+
+    /**
+     * Prints the table contents, one line per used slot
+     */
+    public void print();
+
+
+    /**
+     * Counts the slots find looks at for a key, including the last one
+     * 
+     * @param key
+     *            is the record key
+     * @return number of slots looked at
+     */
+    public int probes(String key);
+
+
+    /**
+     * Calls action once for every record in the table
+     * 
+     * @param action
+     *            is what to do with each record
+     */
+    public void forEachRecord(Consumer<Record> action);
+
+
+    /**
+     * Gives every record a new node index, after the graph was compacted
+     * 
+     * @param map
+     *            is the new index for each old index
+     */
+    public void renumberNodes(int[] map);
+}
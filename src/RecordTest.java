@@ -35,23 +35,12 @@ public class RecordTest extends TestCase {
      * initilizes Record record
      */
     private Record record;
-    /*
-     * initializes Node node
-     */
-    private Node node;
-    /*
-     * initializes another node node2
-     */
-    private Node node2;
-
     // ~Public Methods ........................................................
     /**
      * Sets up the testing methods
      */
     public void setUp() {
-        node = new Node(1);
-        node2 = new Node(2);
-        record = new Record("kalsdjfla", node, "artist");
+        record = new Record("kalsdjfla", 1, RecordType.ARTIST);
     }
 
 
@@ -64,10 +53,10 @@ public class RecordTest extends TestCase {
 
 
     /**
-     * Tests getNode
+     * Tests getIndex
      */
-    public void testGetNode() {
-        assertEquals(node, record.getNode());
+    public void testGetIndex() {
+        assertEquals(1, record.getIndex());
     }
 
 
@@ -81,11 +70,11 @@ public class RecordTest extends TestCase {
 
 
     /**
-     * Tests setNode
+     * Tests setIndex
      */
-    public void testSetNode() {
-        record.setNode(node2);
-        assertEquals(node2, record.getNode());
+    public void testSetIndex() {
+        record.setIndex(2);
+        assertEquals(2, record.getIndex());
     }
 
 
@@ -93,7 +82,7 @@ public class RecordTest extends TestCase {
      * Tests getType
      */
     public void testGetType() {
-        assertEquals("artist", record.getType());
+        assertEquals(RecordType.ARTIST, record.getType());
     }
 
 
@@ -101,7 +90,27 @@ public class RecordTest extends TestCase {
      * Tests setType
      */
     public void testSetType() {
-        record.setType("song");
-        assertEquals("song", record.getType());
+        record.setType(RecordType.SONG);
+        assertEquals(RecordType.SONG, record.getType());
+    }
+
+
+    /**
+     * Tests setTombstone
+     */
+    public void testSetTombstone() {
+        record.setTombstone();
+        assertNull(record.getKey());
+        assertEquals(-1, record.getIndex());
+        assertNull(record.getType());
+    }
+
+
+    /**
+     * Tests the labels of the record types
+     */
+    public void testTypeLabels() {
+        assertEquals("Artist", RecordType.ARTIST.getLabel());
+        assertEquals("Song", RecordType.SONG.getLabel());
     }
 }
@@ -0,0 +1,60 @@
+// On my honor:
+// - I have not used source code obtained from another current or
+// former student, or any other unauthorized source, either
+// modified or unmodified.
+//
+// - All source code and documentation used in my program is
+// either my original work, or was derived by me from the
+// source code published in the textbook for this course.
+//
+// - I have not discussed coding details about this project with
+// anyone other than my partner (in the case of a joint
+// submission), instructor, ACM/UPE tutors or the TAs assigned
+// to this course. I understand that I may discuss the concepts
+// of this program with other students, and that another student
+// may help me debug my program so long as neither of us writes
+// anything during the discussion or modifies any computer file
+// during the discussion. I have violated neither the spirit nor
+// letter of this restriction.
+/**
+ * The kind of record stored in a hash table. Records carry this tag
+ * instead of a type string so comparing types is a reference check.
+ * 
+ * @author laksh
+ * @version Sep 19, 2024
+ */
+public enum RecordType {
+    /**
+     * a record in the artist table
+     */
+    ARTIST("Artist"),
+    /**
+     * a record in the song table
+     */
+    SONG("Song");
+
+    /*
+     * name used in output messages
+     */
+    private final String label;
+
+    /**
+     * Create a new RecordType.
+     * 
+     * @param label
+     *            name used in output messages
+     */
+    RecordType(String label) {
+        this.label = label;
+    }
+
+
+    /**
+     * gets the name used in output messages
+     * 
+     * @return label
+     */
+    public String getLabel() {
+        return label;
+    }
+}
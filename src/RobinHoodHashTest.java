@@ -0,0 +1,211 @@
+// On my honor:
+// - I have not used source code obtained from another current or
+// former student, or any other unauthorized source, either
+// modified or unmodified.
+//
+// - All source code and documentation used in my program is
+// either my original work, or was derived by me from the
+// source code published in the textbook for this course.
+//
+// - I have not discussed coding details about this project with
+// anyone other than my partner (in the case of a joint
+// submission), instructor, ACM/UPE tutors or the TAs assigned
+// to this course. I understand that I may discuss the concepts
+// of this program with other students, and that another student
+// may help me debug my program so long as neither of us writes
+// anything during the discussion or modifies any computer file
+// during the discussion. I have violated neither the spirit nor
+// letter of this restriction.
+import student.TestCase;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+/**
+ * Test class for methods in RobinHoodHash class
+ * 
+ * @author Shruti & Lakshitha
+ * @version 9/19/24
+ */
+public class RobinHoodHashTest extends TestCase {
+    private RobinHoodHash hash;
+
+    /**
+     * Sets up the tests that follow
+     */
+    public void setUp() {
+        hash = new RobinHoodHash(16);
+    }
+
+
+    /**
+     * Tests insert, find and getRecord
+     */
+    public void testInsertFind() {
+        Record record = new Record("hokies", 1, RecordType.ARTIST);
+        hash.insert(record);
+        assertEquals(Hash.h("hokies", 16), hash.find("hokies"));
+        assertEquals(record, hash.getRecord("hokies"));
+        assertNull(hash.getRecord("notThere"));
+
+        hash.insert(new Record("hokies", 2, RecordType.ARTIST));
+        assertEquals(1, hash.getNumberOfRecords());
+        assertEquals(record, hash.getRecord("hokies"));
+    }
+
+
+    /**
+     * Tests a record far from home takes the slot of one at its home
+     */
+    public void testDisplacement() {
+        // 'A' and 'Q' have home slot 1, 'B' has home slot 2
+        hash.insert(new Record("A", 0, RecordType.SONG));
+        hash.insert(new Record("B", 1, RecordType.SONG));
+        assertEquals(2, hash.find("B"));
+
+        hash.insert(new Record("Q", 2, RecordType.SONG));
+        assertEquals(1, hash.find("A"));
+        assertEquals(2, hash.find("Q"));
+        assertEquals(3, hash.find("B"));
+    }
+
+
+    /**
+     * Tests a lookup stops early once it passes a record closer to home
+     */
+    public void testEarlyStop() {
+        hash.insert(new Record("A", 0, RecordType.SONG));
+        hash.insert(new Record("B", 1, RecordType.SONG));
+        hash.insert(new Record("C", 2, RecordType.SONG));
+        // 'a' has home slot 1 too but stops at 'B' which sits at home
+        assertEquals(-1, hash.find("a"));
+        assertEquals(2, hash.probes("a"));
+        assertEquals(1, hash.probes("C"));
+    }
+
+
+    /**
+     * Tests removing shifts the rest of the run back
+     */
+    public void testRemove() {
+        hash.insert(new Record("A", 0, RecordType.SONG));
+        hash.insert(new Record("Q", 1, RecordType.SONG));
+        hash.insert(new Record("B", 2, RecordType.SONG));
+        hash.insert(new Record("C", 3, RecordType.SONG));
+
+        hash.remove("A");
+        assertEquals(3, hash.getNumberOfRecords());
+        assertEquals(1, hash.find("Q"));
+        assertEquals(2, hash.find("B"));
+        assertEquals(3, hash.find("C"));
+        assertNull(hash.getAllRecords()[4]);
+
+        hash.remove("A");
+        assertEquals(3, hash.getNumberOfRecords());
+    }
+
+
+    /**
+     * Tests the table fills to the load factor before doubling
+     */
+    public void testRehash() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(outputStream));
+        try {
+            for (int i = 0; i < 14; i++) {
+                hash.insert(new Record("song" + i, i, RecordType.SONG));
+            }
+            assertEquals(16, hash.getAllRecords().length);
+            hash.insert(new Record("song14", 14, RecordType.SONG));
+        }
+        finally {
+            System.setOut(originalOut);
+        }
+        assertEquals("Song hash table size doubled.", outputStream.toString()
+            .trim());
+        assertEquals(32, hash.getAllRecords().length);
+        for (int i = 0; i < 15; i++) {
+            assertEquals(i, hash.getRecord("song" + i).getIndex());
+        }
+    }
+
+
+    /**
+     * Tests a bad load factor is rejected
+     */
+    public void testBadLoad() {
+        Exception thrown = null;
+        try {
+            new RobinHoodHash(16, 1.0);
+        }
+        catch (IllegalArgumentException e) {
+            thrown = e;
+        }
+        assertNotNull(thrown);
+    }
+
+
+    /**
+     * Tests many removes and inserts keep every record reachable
+     */
+    public void testChurn() {
+        hash = new RobinHoodHash(8, 0.75);
+        for (int i = 0; i < 200; i++) {
+            hash.insert(new Record("key" + i, i, RecordType.SONG));
+            if (i >= 20) {
+                hash.remove("key" + (i - 20));
+            }
+        }
+        assertEquals(20, hash.getNumberOfRecords());
+        for (int i = 180; i < 200; i++) {
+            assertEquals(i, hash.getRecord("key" + i).getIndex());
+        }
+        assertNull(hash.getRecord("key179"));
+    }
+
+
+    /**
+     * Tests find or insert and print
+     */
+    public void testFindOrInsertPrint() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(outputStream));
+        try {
+            Record first = hash.findOrInsert("A", k -> new Record(k, 1,
+                RecordType.SONG));
+            assertEquals(first, hash.findOrInsert("A", k -> null));
+            hash.print();
+        }
+        finally {
+            System.setOut(originalOut);
+        }
+        assertEquals("1: |A|", outputStream.toString().trim());
+    }
+
+
+    /**
+     * Tests reserve makes room for the records in one step
+     */
+    public void testReserve() {
+        hash = new RobinHoodHash(10);
+        hash.reserve(100);
+        int length = hash.getAllRecords().length;
+        assertTrue(length > 10);
+        PrintStream originalOut = System.out;
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outputStream));
+        try {
+            for (int i = 0; i < 100; i++) {
+                hash.insert(new Record("song" + i, i, RecordType.SONG));
+            }
+        }
+        finally {
+            System.setOut(originalOut);
+        }
+        assertEquals("", outputStream.toString());
+        assertEquals(length, hash.getAllRecords().length);
+        assertEquals(100, hash.getNumberOfRecords());
+        assertEquals(99, hash.getRecord("song99").getIndex());
+    }
+}
@@ -0,0 +1,131 @@
+// On my honor:
+// - I have not used source code obtained from another current or
+// former student, or any other unauthorized source, either
+// modified or unmodified.
+//
+// - All source code and documentation used in my program is
+// either my original work, or was derived by me from the
+// source code published in the textbook for this course.
+//
+// - I have not discussed coding details about this project with
+// anyone other than my partner (in the case of a joint
+// submission), instructor, ACM/UPE tutors or the TAs assigned
+// to this course. I understand that I may discuss the concepts
+// of this program with other students, and that another student
+// may help me debug my program so long as neither of us writes
+// anything during the discussion or modifies any computer file
+// during the discussion. I have violated neither the spirit nor
+// letter of this restriction.
+import java.util.SplittableRandom;
+
+/**
+ * SipHash-2-4 hash function
+ * 
+ * Hashes the key as UTF-16LE bytes with a secret 128 bit key. Someone who
+ * does not know the key cannot pick titles that collide, so a table using
+ * it keeps short probes even for input chosen to attack it. It is slower
+ * than MixHash.
+ *
+ * @author Shruti & Lakshitha
+ * @version 9/19/24
+ */
+public class SipHash implements HashFunction {
+
+    /**
+     * private fields
+     */
+    private final long k0; // first half of the secret key
+    private final long k1; // second half of the secret key
+
+    /**
+     * Constructor method
+     * 
+     * @param k0
+     *            is the first 64 bits of the secret key
+     * @param k1
+     *            is the last 64 bits of the secret key
+     */
+    public SipHash(long k0, long k1) {
+        this.k0 = k0;
+        this.k1 = k1;
+    }
+
+
+    /**
+     * Constructor method that makes the secret key from a seed
+     * 
+     * @param seed
+     *            picks the secret key
+     */
+    public SipHash(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        this.k0 = random.nextLong();
+        this.k1 = random.nextLong();
+    }
+
+
+    /**
+     * Hashes a key
+     * 
+     * @param key
+     *            the characters to hash
+     * @return the hash before it is reduced to a slot
+     */
+    public long hash(CharSequence key) {
+        long[] v = { k0 ^ 0x736f6d6570736575L, k1 ^ 0x646f72616e646f6dL,
+            k0 ^ 0x6c7967656e657261L, k1 ^ 0x7465646279746573L };
+        int count = key.length();
+        long word = 0;
+        for (int k = 0; k < count; k++) {
+            word |= (long)key.charAt(k) << ((k & 3) * 16);
+            if ((k & 3) == 3) { // eight bytes read
+                compress(v, word);
+                word = 0;
+            }
+        }
+
+        // last word holds the bytes left over and the byte count
+        compress(v, word | (long)(count * 2) << 56);
+        v[2] ^= 0xff;
+        for (int round = 0; round < 4; round++) {
+            round(v);
+        }
+        return v[0] ^ v[1] ^ v[2] ^ v[3];
+    }
+
+
+    /**
+     * Mixes one eight byte word of the message into the state
+     * 
+     * @param v
+     *            is the state
+     * @param word
+     *            is the next eight bytes, little endian
+     */
+    private static void compress(long[] v, long word) {
+        v[3] ^= word;
+        round(v);
+        round(v);
+        v[0] ^= word;
+    }
+
+
+    /**
+     * One SipRound of the state
+     * 
+     * @param v
+     *            is the state
+     */
+    private static void round(long[] v) {
+        v[0] += v[1];
+        v[1] = Long.rotateLeft(v[1], 13) ^ v[0];
+        v[0] = Long.rotateLeft(v[0], 32);
+        v[2] += v[3];
+        v[3] = Long.rotateLeft(v[3], 16) ^ v[2];
+        v[0] += v[3];
+        v[3] = Long.rotateLeft(v[3], 21) ^ v[0];
+        v[2] += v[1];
+        v[1] = Long.rotateLeft(v[1], 17) ^ v[2];
+        v[2] = Long.rotateLeft(v[2], 32);
+    }
+}
@@ -0,0 +1,68 @@
+// On my honor:
+// - I have not used source code obtained from another current or
+// former student, or any other unauthorized source, either
+// modified or unmodified.
+//
+// - All source code and documentation used in my program is
+// either my original work, or was derived by me from the
+// source code published in the textbook for this course.
+//
+// - I have not discussed coding details about this project with
+// anyone other than my partner (in the case of a joint
+// submission), instructor, ACM/UPE tutors or the TAs assigned
+// to this course. I understand that I may discuss the concepts
+// of this program with other students, and that another student
+// may help me debug my program so long as neither of us writes
+// anything during the discussion or modifies any computer file
+// during the discussion. I have violated neither the spirit nor
+// letter of this restriction.
+import student.TestCase;
+
+/**
+ * Test class for methods in SipHash class
+ * 
+ * @author Shruti & Lakshitha
+ * @version 9/19/24
+ */
+public class SipHashTest extends TestCase {
+
+    /**
+     * Makes the key whose UTF-16LE bytes are 0, 1, 2, ..., count - 1
+     * 
+     * @param count
+     *            is the number of bytes, even
+     * @return the key
+     */
+    private static String counting(int count) {
+        StringBuilder key = new StringBuilder();
+        for (int i = 0; i < count; i += 2) {
+            key.append((char)(i | (i + 1) << 8));
+        }
+        return key.toString();
+    }
+
+
+    /**
+     * Tests against the test vectors of the SipHash reference code, which
+     * use the key 00 01 ... 0f
+     */
+    public void testVectors() {
+        SipHash sip = new SipHash(0x0706050403020100L, 0x0f0e0d0c0b0a0908L);
+        assertEquals(0x726fdb47dd0e0e31L, sip.hash(counting(0)));
+        assertEquals(0x0d6c8009d9a94f5aL, sip.hash(counting(2)));
+        assertEquals(0x93f5f5799a932462L, sip.hash(counting(8)));
+        assertEquals(0x3f2acc7f57c29bdbL, sip.hash(counting(16)));
+    }
+
+
+    /**
+     * Tests keys that collide under sfold do not collide here, and the seed
+     * picks the secret key
+     */
+    public void testSeed() {
+        SipHash sip = new SipHash(42);
+        assertFalse(sip.hash("abcdefgh") == sip.hash("efghabcd"));
+        assertEquals(sip.hash("hokies"), new SipHash(42).hash("hokies"));
+        assertFalse(sip.hash("hokies") == new SipHash(43).hash("hokies"));
+    }
+}
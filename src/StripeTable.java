@@ -0,0 +1,124 @@
+// On my honor:
+// - I have not used source code obtained from another current or
+// former student, or any other unauthorized source, either
+// modified or unmodified.
+//
+// - All source code and documentation used in my program is
+// either my original work, or was derived by me from the
+// source code published in the textbook for this course.
+//
+// - I have not discussed coding details about this project with
+// anyone other than my partner (in the case of a joint
+// submission), instructor, ACM/UPE tutors or the TAs assigned
+// to this course. I understand that I may discuss the concepts
+// of this program with other students, and that another student
+// may help me debug my program so long as neither of us writes
+// anything during the discussion or modifies any computer file
+// during the discussion. I have violated neither the spirit nor
+// letter of this restriction.
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * One stripe of a ConcurrentHash: the slots of the stripe and the folded
+ * key of the record in each one. A stripe is never made longer; when it
+ * grows, its ConcurrentHash swaps in a new one, so a reader that is still
+ * walking the old stripe sees a table that no longer changes.
+ *
+ * @author Shruti & Lakshitha
+ * @version 9/19/24
+ */
+public class StripeTable {
+
+    /**
+     * fields, read without locks by the readers of a ConcurrentHash
+     */
+    private final AtomicReferenceArray<Record> records; // record per slot
+    private final long[] hashes; // folded key of the record in each slot
+    private volatile int count; // records in the stripe
+
+    /**
+     * Constructor method
+     * 
+     * @param length
+     *            is the number of slots
+     */
+    public StripeTable(int length) {
+        this.records = new AtomicReferenceArray<>(length);
+        this.hashes = new long[length];
+        this.count = 0;
+    }
+
+
+    /**
+     * Get method for the number of slots
+     * 
+     * @return the stripe length
+     */
+    public int length() {
+        return hashes.length;
+    }
+
+
+    /**
+     * Get method for the record in a slot
+     * 
+     * @param pos
+     *            is the slot
+     * @return the record, the tombstone of the table, or null
+     */
+    public Record get(int pos) {
+        return records.get(pos);
+    }
+
+
+    /**
+     * Get method for the folded key in a slot. Only meaningful after get
+     * gave a record for the slot.
+     * 
+     * @param pos
+     *            is the slot
+     * @return the folded key
+     */
+    public long getHash(int pos) {
+        return hashes[pos];
+    }
+
+
+    /**
+     * Puts a record in a slot. The folded key is written first, so a
+     * reader that sees the record also sees its folded key.
+     * 
+     * @param pos
+     *            is the slot
+     * @param record
+     *            is the record, or a tombstone
+     * @param code
+     *            is the folded key of the record
+     */
+    public void set(int pos, Record record, long code) {
+        hashes[pos] = code;
+        records.set(pos, record);
+    }
+
+
+    /**
+     * Get method for the number of records
+     * 
+     * @return number of records in the stripe
+     */
+    public int getCount() {
+        return count;
+    }
+
+
+    /**
+     * Set method for the number of records. Only called by a writer that
+     * holds the lock of the stripe.
+     * 
+     * @param count
+     *            is the number of records in the stripe
+     */
+    public void setCount(int count) {
+        this.count = count;
+    }
+}
@@ -0,0 +1,43 @@
+// On my honor:
+// - I have not used source code obtained from another current or
+// former student, or any other unauthorized source, either
+// modified or unmodified.
+//
+// - All source code and documentation used in my program is
+// either my original work, or was derived by me from the
+// source code published in the textbook for this course.
+//
+// - I have not discussed coding details about this project with
+// anyone other than my partner (in the case of a joint
+// submission), instructor, ACM/UPE tutors or the TAs assigned
+// to this course. I understand that I may discuss the concepts
+// of this program with other students, and that another student
+// may help me debug my program so long as neither of us writes
+// anything during the discussion or modifies any computer file
+// during the discussion. I have violated neither the spirit nor
+// letter of this restriction.
+import student.TestCase;
+
+/**
+ * Test class for StripeTable
+ * 
+ * @author Shruti & Lakshitha
+ * @version 9/19/24
+ */
+public class StripeTableTest extends TestCase {
+
+    /**
+     * Tests set and get keep the record, its folded key and the count
+     */
+    public void testSetGet() {
+        StripeTable table = new StripeTable(8);
+        assertEquals(8, table.length());
+        assertNull(table.get(3));
+        Record record = new Record("hokies", 1, RecordType.SONG);
+        table.set(3, record, 42);
+        assertSame(record, table.get(3));
+        assertEquals(42, table.getHash(3));
+        table.setCount(1);
+        assertEquals(1, table.getCount());
+    }
+}
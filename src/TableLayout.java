@@ -0,0 +1,39 @@
+// On my honor:
+// - I have not used source code obtained from another current or
+// former student, or any other unauthorized source, either
+// modified or unmodified.
+//
+// - All source code and documentation used in my program is
+// either my original work, or was derived by me from the
+// source code published in the textbook for this course.
+//
+// - I have not discussed coding details about this project with
+// anyone other than my partner (in the case of a joint
+// submission), instructor, ACM/UPE tutors or the TAs assigned
+// to this course. I understand that I may discuss the concepts
+// of this program with other students, and that another student
+// may help me debug my program so long as neither of us writes
+// anything during the discussion or modifies any computer file
+// during the discussion. I have violated neither the spirit nor
+// letter of this restriction.
+/**
+ * How the controller stores the records of its two hash tables. Every
+ * layout puts each record in the same slot, so the output is the same.
+ * 
+ * @author Shruti & Lakshitha
+ * @version 9/19/24
+ */
+public enum TableLayout {
+    /**
+     * one Record object per slot, in Hash
+     */
+    RECORDS,
+    /**
+     * parallel arrays with the keys off the heap, in CompactHash
+     */
+    COMPACT,
+    /**
+     * an int index over insertion ordered records, in DenseHash
+     */
+    DENSE
+}